@@ -0,0 +1,76 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.domain.video.DifficultyLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 목록 API 응답(Page<VideoResponse>)의 JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VideoPageSerializationBenchmark {
+
+    @Param({"10", "20", "100"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private Page<VideoResponse> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        CategoryResponse category = CategoryResponse.builder()
+                .id(1L)
+                .name("프로그래밍")
+                .slug("programming")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        List<VideoResponse> content = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            content.add(VideoResponse.builder()
+                    .id(id)
+                    .title("스프링 부트 입문 " + id)
+                    .description("스프링 부트로 REST API를 만드는 방법 " + id)
+                    .videoUrl("https://cdn.learnsnap.com/videos/" + id + ".mp4")
+                    .thumbnailUrl("https://cdn.learnsnap.com/thumbnails/" + id + ".jpg")
+                    .duration(300)
+                    .difficultyLevel(DifficultyLevel.BEGINNER)
+                    .category(category)
+                    .instructor(VideoResponse.InstructorInfo.builder()
+                            .id(1L)
+                            .username("instructor")
+                            .email("instructor@learnsnap.com")
+                            .build())
+                    .viewsCount(id * 100)
+                    .likesCount(id)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,73 @@
+package com.learnsnap.security;
+
+import com.learnsnap.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 인증 헤더가 있는 요청 한 건이 JwtAuthenticationFilter를 통과하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "learnsnap-benchmark-secret-key-0123456789-abcdefghijklmnop");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 10000);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        // 토큰 버전이 바뀐 사용자가 없는 상태 (DB 초기화는 하지 않음)
+        TokenVersionStore tokenVersionStore = new TokenVersionStore(null);
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenVersionStore);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtUtil.CLAIM_USER_ID, 1L);
+        claims.put(JwtUtil.CLAIM_ROLE, "LEARNER");
+        claims.put(JwtUtil.CLAIM_TOKEN_VERSION, 0);
+        authorization = "Bearer " + jwtUtil.generateToken("bench@learnsnap.com", claims);
+    }
+
+    @Benchmark
+    public MockFilterChain authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        try {
+            filter.doFilterInternal(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return chain;
+    }
+
+    @Benchmark
+    public MockFilterChain anonymousRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/videos");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilterInternal(request, response, chain);
+        return chain;
+    }
+}
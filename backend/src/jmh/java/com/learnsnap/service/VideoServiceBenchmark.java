@@ -0,0 +1,133 @@
+package com.learnsnap.service;
+
+import com.learnsnap.domain.category.Category;
+import com.learnsnap.domain.user.Role;
+import com.learnsnap.domain.user.User;
+import com.learnsnap.domain.video.DifficultyLevel;
+import com.learnsnap.domain.video.Video;
+import com.learnsnap.dto.CategoryResponse;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.repository.CategoryRepository;
+import com.learnsnap.repository.UserRepository;
+import com.learnsnap.repository.VideoLikeRepository;
+import com.learnsnap.repository.VideoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Video 엔티티 -> VideoResponse 변환 비용 (카테고리는 캐시 hit 상태)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class VideoServiceBenchmark {
+
+    private VideoService videoService;
+    private Video video;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Category category = Category.builder()
+                .id(1L)
+                .name("프로그래밍")
+                .slug("programming")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        // 변환 경로에서 쓰지 않는 협력 객체는 호출되면 실패하는 대역 (null 대신 타입이 있는 이름으로 넘겨서
+        // VideoService 생성자 인자가 바뀌거나 순서가 바뀌면 컴파일 오류가 나도록)
+        VideoRepository videoRepository = unused(VideoRepository.class);
+        CategoryRepository categoryRepository = unused(CategoryRepository.class);
+        UserRepository userRepository = unused(UserRepository.class);
+        VideoLikeRepository videoLikeRepository = unused(VideoLikeRepository.class);
+        PlatformTransactionManager transactionManager = unused(PlatformTransactionManager.class);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate();
+        ApplicationEventPublisher eventPublisher = event -> { };
+
+        // 카테고리 캐시를 미리 채워서 DB 없이 동작하도록
+        CategoryCache categoryCache = new CategoryCache(1000);
+        categoryCache.getById(category.getId(), id -> CategoryResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .slug(category.getSlug())
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+        CategoryService categoryService = new CategoryService(categoryRepository, categoryCache, eventPublisher);
+
+        // 색인/순위 구조는 만들기만 한다 (초기 구축 콜백을 부르지 않으므로 저장소에 접근하지 않음)
+        TrendingLeaderboard trendingLeaderboard = new TrendingLeaderboard(videoRepository, 1, 24);
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer(jdbcTemplate, transactionManager, eventPublisher, 0);
+        LikeCountBuffer likeCountBuffer = new LikeCountBuffer(jdbcTemplate, transactionManager, eventPublisher, 0);
+        VideoLikeIndex videoLikeIndex = new VideoLikeIndex(videoLikeRepository, 1);
+        VideoSearchIndex videoSearchIndex = new VideoSearchIndex(videoRepository, 1, 1);
+        RecentVideos recentVideos = new RecentVideos(videoRepository, viewCountBuffer, likeCountBuffer, 1);
+        // 원격 썸네일은 가져오지 않으므로 변형 URL만 만들어짐
+        ThumbnailService thumbnailService = new ThumbnailService(videoRepository,
+                System.getProperty("java.io.tmpdir"), 1, 10, false, new String[0], 1024, 1024);
+
+        videoService = new VideoService(videoRepository, categoryRepository, categoryService, userRepository,
+                viewCountBuffer, likeCountBuffer, videoLikeRepository, videoLikeIndex, videoSearchIndex,
+                trendingLeaderboard, recentVideos, thumbnailService, eventPublisher);
+
+        User instructor = User.builder()
+                .id(1L)
+                .email("instructor@learnsnap.com")
+                .username("instructor")
+                .password("password")
+                .role(Role.INSTRUCTOR)
+                .build();
+
+        video = Video.builder()
+                .id(1L)
+                .title("스프링 부트 입문")
+                .description("스프링 부트로 REST API를 만드는 방법")
+                .videoUrl("https://cdn.learnsnap.com/videos/1.mp4")
+                .thumbnailUrl("https://cdn.learnsnap.com/thumbnails/1.jpg")
+                .duration(300)
+                .difficultyLevel(DifficultyLevel.BEGINNER)
+                .category(category)
+                .instructor(instructor)
+                .viewsCount(1234L)
+                .likesCount(56L)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public VideoResponse convertToResponse() {
+        return videoService.convertToResponse(video);
+    }
+
+    // 호출되면 어느 협력 객체가 변환 경로에 새로 들어왔는지 알 수 있도록 이름을 담아 실패
+    @SuppressWarnings("unchecked")
+    private static <T> T unused(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "unused " + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                default:
+                    throw new UnsupportedOperationException(
+                            "벤치마크에서 사용하지 않는 " + type.getSimpleName() + "." + method.getName() + " 호출");
+            }
+        });
+    }
+}
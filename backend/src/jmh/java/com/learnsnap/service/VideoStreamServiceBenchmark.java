@@ -0,0 +1,138 @@
+package com.learnsnap.service;
+
+import com.learnsnap.repository.VideoRepository;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// 여러 클라이언트가 동시에 임의 위치로 탐색(seek)하며 Range 요청을 보낼 때의 처리량
+// 초당 전송 바이트 = ops/s x rangeSize (응답 본문은 버린다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class VideoStreamServiceBenchmark {
+
+    private static final long FILE_SIZE = 64L * 1024 * 1024;
+    private static final int VIDEO_COUNT = 8;
+
+    @Param({"65536", "1048576"})
+    private int rangeSize;
+
+    private Path storageRoot;
+    private VideoStreamService videoStreamService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        storageRoot = Files.createTempDirectory("learnsnap-stream-bench");
+        for (int i = 1; i <= VIDEO_COUNT; i++) {
+            createFile(storageRoot.resolve("videos/" + i + ".mp4"));
+        }
+
+        // 파일 경로 조회만 흉내 내는 저장소 (경로가 캐시되므로 비디오마다 처음 한 번만 호출된다)
+        VideoRepository videoRepository = (VideoRepository) Proxy.newProxyInstance(
+                VideoRepository.class.getClassLoader(),
+                new Class<?>[]{VideoRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findVideoUrlById")) {
+                        return Optional.of("videos/" + args[0] + ".mp4");
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        videoStreamService = new VideoStreamService(videoRepository, storageRoot.toString(), 256, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(storageRoot)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int seekingRangeRequest() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long videoId = random.nextInt(1, VIDEO_COUNT + 1);
+        long start = random.nextLong(FILE_SIZE - rangeSize);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/videos/" + videoId + "/stream");
+        request.addHeader("Range", "bytes=" + start + "-" + (start + rangeSize - 1));
+        DiscardingResponse response = new DiscardingResponse();
+
+        videoStreamService.stream(videoId, request, response);
+        return response.getStatus();
+    }
+
+    private static void createFile(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        ByteBuffer chunk = ByteBuffer.allocate(1024 * 1024);
+        ThreadLocalRandom.current().nextBytes(chunk.array());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (long written = 0; written < FILE_SIZE; written += chunk.capacity()) {
+                chunk.clear();
+                channel.write(chunk);
+            }
+        }
+    }
+
+    // 본문을 메모리에 모으지 않고 버리는 응답
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        };
+
+        private DiscardingResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.learnsnap.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// JwtUtil 토큰 생성/검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "learnsnap-benchmark-secret-key-0123456789-abcdefghijklmnop";
+    static final String EMAIL = "bench@learnsnap.com";
+
+    private JwtUtil jwtUtil;
+    // 검증 결과 캐시를 쓰지 않는 인스턴스 (매번 서명 검증)
+    private JwtUtil uncachedJwtUtil;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil(10000);
+        uncachedJwtUtil = newJwtUtil(0);
+
+        claims = new HashMap<>();
+        claims.put(JwtUtil.CLAIM_USER_ID, 1L);
+        claims.put(JwtUtil.CLAIM_ROLE, "LEARNER");
+        claims.put(JwtUtil.CLAIM_TOKEN_VERSION, 0);
+        token = jwtUtil.generateToken(EMAIL, claims);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(EMAIL, claims);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Boolean validateTokenUncached() {
+        return uncachedJwtUtil.validateToken(token);
+    }
+
+    // @Value 필드를 직접 채우고 @PostConstruct 초기화 호출
+    static JwtUtil newJwtUtil(int verifiedCacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", verifiedCacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,478 @@
+package com.learnsnap.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.StringJoiner;
+
+// 부하 테스트용 합성 데이터 생성기 (같은 seed면 같은 데이터)
+// 서버를 한 번 실행해 스키마와 ID 시퀀스가 만들어진 PostgreSQL에 JDBC 배치로 직접 넣는다
+// 서버의 메모리 구조(검색 인덱스, 인기 순위 등)는 기동 시 구축되므로 생성 후 서버를 다시 시작할 것
+// 설정은 시스템 프로퍼티 (gradle에서는 -Pdatagen.xxx=값)
+//   datagen.url          JDBC URL (기본 jdbc:postgresql://localhost:5432/learnsnap)
+//   datagen.username     DB 사용자 (기본 postgres)
+//   datagen.password     DB 비밀번호 (기본 postgres)
+//   datagen.seed         난수 시드 (기본 42)
+//   datagen.prefix       이메일/slug 접두어 - 기존 데이터와 구분 (기본 lt)
+//   datagen.users        학습자 수 (기본 10000)
+//   datagen.instructors  강사 수 (기본 100)
+//   datagen.categories   카테고리 수 (기본 20)
+//   datagen.videos       비디오 수 (기본 100000)
+//   datagen.batchSize    JDBC 배치 크기 (기본 1000)
+//   datagen.reset        true면 같은 접두어로 만든 데이터를 지우고 다시 생성
+//   datagen.manifest     생성 결과 (부하 테스트가 읽는 dataset.properties)
+public class DataGenerator {
+
+    // 엔티티의 @SequenceGenerator allocationSize와 같아야 한다
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final String PASSWORD = "loadtest123";
+    private static final int HOT_VIDEO_COUNT = 100;
+    private static final long MAX_VIEWS = 5_000_000L;
+
+    private static final String[][] CATEGORIES = {
+            {"백엔드", "backend"}, {"프론트엔드", "frontend"}, {"데이터베이스", "database"},
+            {"데브옵스", "devops"}, {"모바일", "mobile"}, {"데이터 분석", "data"},
+            {"머신러닝", "ml"}, {"보안", "security"}, {"알고리즘", "algorithm"},
+            {"디자인", "design"}, {"기획", "product"}, {"마케팅", "marketing"},
+            {"외국어", "language"}, {"재테크", "finance"}, {"생산성", "productivity"},
+            {"커리어", "career"}, {"클라우드", "cloud"}, {"게임 개발", "gamedev"},
+            {"임베디드", "embedded"}, {"블록체인", "blockchain"}
+    };
+
+    private static final String[] TOPICS = {
+            "Spring Boot", "JPA", "쿠버네티스", "도커", "React", "TypeScript", "자바 동시성",
+            "PostgreSQL 인덱스", "Kotlin 코루틴", "파이썬 데이터 분석", "머신러닝 기초", "Git 브랜치 전략",
+            "AWS Lambda", "Redis 캐시", "정렬 알고리즘", "해시 테이블", "HTTP/2", "운영체제 스케줄링",
+            "디자인 패턴", "테스트 코드", "UX 리서치", "Figma 컴포넌트", "퍼널 분석", "엑셀 피벗 테이블",
+            "비즈니스 영어", "GraphQL", "Next.js", "Swift UI", "Flutter", "Terraform", "Kafka",
+            "Elasticsearch", "OAuth 2.0", "JWT 인증", "CI/CD 파이프라인", "리액티브 프로그래밍"
+    };
+
+    private static final String[] TITLE_PATTERNS = {
+            "%s 입문", "%s 5분 정리", "실무에서 바로 쓰는 %s", "%s 핵심 개념", "처음 배우는 %s",
+            "%s 성능 최적화", "%s 트러블슈팅 사례", "%s 면접 대비", "한 번에 끝내는 %s",
+            "%s, 이것만 알면 된다", "Deep dive into %s", "%s in 10 minutes", "%s best practices",
+            "%s 자주 하는 실수", "%s 내부 동작 원리"
+    };
+
+    private static final String[] SENTENCES = {
+            "이 강의에서는 기본 개념부터 차근차근 설명합니다.",
+            "실제 서비스에서 겪은 문제를 예제로 다룹니다.",
+            "코드를 따라 치면서 바로 결과를 확인할 수 있습니다.",
+            "자주 묻는 질문과 흔한 실수를 함께 정리했습니다.",
+            "사전 지식이 없어도 이해할 수 있도록 구성했습니다.",
+            "마지막에는 간단한 퀴즈로 내용을 복습합니다.",
+            "현업 개발자의 관점에서 장단점을 비교합니다.",
+            "짧은 시간 안에 핵심만 빠르게 익힐 수 있습니다.",
+            "We walk through a small but realistic example project.",
+            "Slides and source code are linked in the description.",
+            "This session assumes basic familiarity with the command line.",
+            "By the end you will be able to apply it to your own project."
+    };
+
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+            "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"
+    };
+    private static final String[] GIVEN_SYLLABLES = {
+            "민", "서", "지", "현", "우", "준", "하", "윤", "예", "도",
+            "수", "영", "진", "은", "호", "연", "재", "유", "성", "아"
+    };
+    private static final String[] LATIN_NAMES = {
+            "Alex", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Sam", "Jamie"
+    };
+
+    private static final String[] DIFFICULTIES = {"BEGINNER", "INTERMEDIATE", "ADVANCED"};
+
+    public static void main(String[] args) throws SQLException, IOException {
+        String url = System.getProperty("datagen.url", "jdbc:postgresql://localhost:5432/learnsnap");
+        String username = System.getProperty("datagen.username", "postgres");
+        String password = System.getProperty("datagen.password", "postgres");
+        long seed = Long.getLong("datagen.seed", 42L);
+        String prefix = System.getProperty("datagen.prefix", "lt");
+        int users = Integer.getInteger("datagen.users", 10_000);
+        int instructors = Integer.getInteger("datagen.instructors", 100);
+        int categories = Integer.getInteger("datagen.categories", 20);
+        int videos = Integer.getInteger("datagen.videos", 100_000);
+        int batchSize = Integer.getInteger("datagen.batchSize", 1000);
+        boolean reset = Boolean.getBoolean("datagen.reset");
+        Path manifest = Path.of(System.getProperty("datagen.manifest", "build/reports/loadtest/dataset.properties"));
+
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", username);
+        connectionProperties.setProperty("password", password);
+        connectionProperties.setProperty("reWriteBatchedInserts", "true");
+
+        try (Connection connection = DriverManager.getConnection(url, connectionProperties)) {
+            connection.setAutoCommit(false);
+            DataGenerator generator = new DataGenerator(connection, new SplittableRandom(seed), prefix, batchSize);
+
+            if (reset) {
+                generator.deleteExisting();
+            } else if (generator.exists()) {
+                throw new IllegalStateException("접두어 '" + prefix + "'로 생성된 데이터가 이미 있습니다 (-Pdatagen.reset=true)");
+            }
+
+            long start = System.nanoTime();
+            String hash = new BCryptPasswordEncoder(10).encode(PASSWORD);
+            List<Long> categoryIds = generator.insertCategories(categories);
+            long adminId = generator.insertUsers("admin", 1, "ADMIN", hash).get(0);
+            List<Long> instructorIds = generator.insertUsers("instructor", instructors, "INSTRUCTOR", hash);
+            instructorIds.add(adminId);
+            generator.insertUsers("user", users, "LEARNER", hash);
+            generator.insertVideos(videos, categoryIds, instructorIds);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            long rows = categories + 1 + instructors + users + videos;
+            System.out.printf("생성 완료: 사용자 %d, 강사 %d, 카테고리 %d, 비디오 %d (%.1fs, %.0f행/초)%n",
+                    users, instructors, categories, videos, seconds, rows / seconds);
+
+            generator.writeManifest(manifest, seed, users, categoryIds);
+            System.out.println("데이터셋 정보 저장: " + manifest);
+        }
+    }
+
+    private final Connection connection;
+    private final SplittableRandom random;
+    private final String prefix;
+    private final int batchSize;
+
+    private final List<String> categorySlugs = new ArrayList<>();
+    private final List<long[]> videoIdRanges = new ArrayList<>();
+    // 조회수 상위 비디오 (조회수, ID) - 부하 테스트의 인기 비디오 요청에 사용
+    private final PriorityQueue<long[]> hotVideos = new PriorityQueue<>(Comparator.comparingLong(v -> v[0]));
+
+    private DataGenerator(Connection connection, SplittableRandom random, String prefix, int batchSize) {
+        this.connection = connection;
+        this.random = random;
+        this.prefix = prefix;
+        this.batchSize = batchSize;
+    }
+
+    private String email(String kind, long n) {
+        return String.format("%s-%s-%06d@learnsnap.test", prefix, kind, n);
+    }
+
+    private boolean exists() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM users WHERE email = ?")) {
+            statement.setString(1, email("admin", 1));
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    // 접두어로 만든 사용자/카테고리와 그에 딸린 비디오, 좋아요 삭제
+    private void deleteExisting() throws SQLException {
+        String users = "SELECT id FROM users WHERE email LIKE ?";
+        String categories = "SELECT id FROM categories WHERE slug LIKE ?";
+        String[] statements = {
+                "DELETE FROM video_likes WHERE user_id IN (" + users + ")",
+                "DELETE FROM video_likes WHERE video_id IN (SELECT id FROM videos WHERE instructor_id IN (" + users + "))",
+                "DELETE FROM videos WHERE instructor_id IN (" + users + ")",
+                "DELETE FROM users WHERE email LIKE ?"
+        };
+        for (String sql : statements) {
+            update(sql, prefix + "-%@learnsnap.test");
+        }
+        update("DELETE FROM video_likes WHERE video_id IN (SELECT id FROM videos WHERE category_id IN (" + categories + "))",
+                prefix + "-%");
+        update("DELETE FROM videos WHERE category_id IN (" + categories + ")", prefix + "-%");
+        update("DELETE FROM categories WHERE slug LIKE ?", prefix + "-%");
+        connection.commit();
+    }
+
+    private void update(String sql, String pattern) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, pattern);
+            statement.executeUpdate();
+        }
+    }
+
+    private List<Long> insertCategories(int count) throws SQLException {
+        IdBlocks ids = new IdBlocks("categories_seq");
+        List<Long> categoryIds = new ArrayList<>(count);
+        String sql = "INSERT INTO categories (id, name, slug, description, icon, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < count; i++) {
+                String[] base = CATEGORIES[i % CATEGORIES.length];
+                int round = i / CATEGORIES.length;
+                String name = "[" + prefix + "] " + base[0] + (round > 0 ? " " + (round + 1) : "");
+                String slug = prefix + "-" + base[1] + (round > 0 ? "-" + (round + 1) : "");
+
+                long id = ids.next();
+                statement.setLong(1, id);
+                statement.setString(2, name);
+                statement.setString(3, slug);
+                statement.setString(4, base[0] + " 관련 짧은 강의 모음");
+                statement.setString(5, base[1]);
+                statement.setTimestamp(6, now);
+                statement.setTimestamp(7, now);
+                statement.addBatch();
+
+                categoryIds.add(id);
+                categorySlugs.add(slug);
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return categoryIds;
+    }
+
+    private List<Long> insertUsers(String kind, int count, String role, String passwordHash) throws SQLException {
+        IdBlocks ids = new IdBlocks("users_seq");
+        List<Long> userIds = new ArrayList<>(count);
+        String sql = "INSERT INTO users (id, email, password, username, role, profile_image, bio, token_version, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, NULL, ?, 0, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= count; i++) {
+                long id = ids.next();
+                Timestamp createdAt = pastTimestamp(730);
+                statement.setLong(1, id);
+                statement.setString(2, email(kind, i));
+                statement.setString(3, passwordHash);
+                statement.setString(4, personName());
+                statement.setString(5, role);
+                statement.setString(6, random.nextInt(10) == 0 ? sentence() : null);
+                statement.setTimestamp(7, createdAt);
+                statement.setTimestamp(8, createdAt);
+                statement.addBatch();
+                userIds.add(id);
+
+                if (i % batchSize == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+        return userIds;
+    }
+
+    private void insertVideos(int count, List<Long> categoryIds, List<Long> instructorIds) throws SQLException {
+        IdBlocks ids = new IdBlocks("videos_seq");
+        String sql = "INSERT INTO videos (id, title, description, video_url, thumbnail_url, duration, "
+                + "difficulty_level, category_id, instructor_id, views_count, likes_count, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        long start = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 1; i <= count; i++) {
+                long id = ids.next();
+                long views = views();
+                Timestamp createdAt = pastTimestamp(365);
+
+                statement.setLong(1, id);
+                statement.setString(2, title());
+                statement.setString(3, description());
+                statement.setString(4, "https://cdn.learnsnap.test/videos/" + id + ".mp4");
+                statement.setString(5, random.nextInt(10) < 7 ? "https://cdn.learnsnap.test/thumbnails/" + id + ".jpg" : null);
+                statement.setInt(6, duration());
+                statement.setString(7, difficulty());
+                // 카테고리/강사도 소수에 몰리도록
+                statement.setLong(8, categoryIds.get(skewedIndex(categoryIds.size())));
+                statement.setLong(9, instructorIds.get(skewedIndex(instructorIds.size())));
+                statement.setLong(10, views);
+                statement.setLong(11, Math.round(views * (0.01 + random.nextDouble() * 0.07)));
+                statement.setTimestamp(12, createdAt);
+                statement.setTimestamp(13, createdAt);
+                statement.addBatch();
+
+                recordVideo(id, views);
+                if (i % batchSize == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+                if (i % 100_000 == 0) {
+                    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                    System.out.printf("비디오 %d개 (%.0f행/초)%n", i, i / seconds);
+                }
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void recordVideo(long id, long views) {
+        long[] last = videoIdRanges.isEmpty() ? null : videoIdRanges.get(videoIdRanges.size() - 1);
+        if (last != null && last[1] + 1 == id) {
+            last[1] = id;
+        } else {
+            videoIdRanges.add(new long[]{id, id});
+        }
+
+        hotVideos.add(new long[]{views, id});
+        if (hotVideos.size() > HOT_VIDEO_COUNT) {
+            hotVideos.poll();
+        }
+    }
+
+    private void writeManifest(Path file, long seed, int users, List<Long> categoryIds) throws IOException {
+        List<long[]> hot = new ArrayList<>(hotVideos);
+        hot.sort(Comparator.comparingLong((long[] v) -> v[0]).reversed());
+
+        Properties manifest = new Properties();
+        manifest.setProperty("seed", Long.toString(seed));
+        manifest.setProperty("password", PASSWORD);
+        manifest.setProperty("users", Integer.toString(users));
+        manifest.setProperty("userEmailFormat", prefix + "-user-%06d@learnsnap.test");
+        manifest.setProperty("categoryIds", join(categoryIds.stream().map(String::valueOf).toList()));
+        manifest.setProperty("categorySlugs", join(categorySlugs));
+        manifest.setProperty("videoIdRanges", join(videoIdRanges.stream().map(r -> r[0] + "-" + r[1]).toList()));
+        manifest.setProperty("hotVideoIds", join(hot.stream().map(v -> String.valueOf(v[1])).toList()));
+        manifest.setProperty("searchTerms", join(List.of(TOPICS)));
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            manifest.store(writer, "learnsnap load test dataset");
+        }
+    }
+
+    private static String join(List<String> values) {
+        StringJoiner joiner = new StringJoiner(",");
+        values.forEach(joiner::add);
+        return joiner.toString();
+    }
+
+    // 제목 길이가 고르게 섞이도록 패턴 + 선택적인 부제/편 번호
+    private String title() {
+        String topic = TOPICS[skewedIndex(TOPICS.length)];
+        String title = String.format(TITLE_PATTERNS[random.nextInt(TITLE_PATTERNS.length)], topic);
+        int extra = random.nextInt(10);
+        if (extra < 2) {
+            title += " (" + (random.nextInt(12) + 1) + "편)";
+        } else if (extra == 2) {
+            title += " - " + TOPICS[random.nextInt(TOPICS.length)] + "와 함께";
+        }
+        return title;
+    }
+
+    // 15%는 설명 없음, 나머지는 1~8문장 (짧은 쪽에 몰림)
+    private String description() {
+        if (random.nextInt(100) < 15) {
+            return null;
+        }
+        int sentences = 1 + (int) Math.min(7, -Math.log(1 - random.nextDouble()) * 2);
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                description.append(' ');
+            }
+            description.append(sentence());
+        }
+        return description.length() > 1000 ? description.substring(0, 1000) : description.toString();
+    }
+
+    private String sentence() {
+        return SENTENCES[random.nextInt(SENTENCES.length)];
+    }
+
+    private String personName() {
+        if (random.nextInt(10) == 0) {
+            return LATIN_NAMES[random.nextInt(LATIN_NAMES.length)] + " " + (char) ('A' + random.nextInt(26)) + ".";
+        }
+        return SURNAMES[skewedIndex(SURNAMES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)];
+    }
+
+    // 파레토 분포 (alpha 1.16 -> 상위 20%가 조회수의 약 80%)
+    private long views() {
+        double pareto = 10.0 / Math.pow(1 - random.nextDouble(), 1 / 1.16);
+        return Math.min(MAX_VIEWS, (long) pareto - 10);
+    }
+
+    // 로그 정규분포 (중앙값 약 4분, 30초~1시간)
+    private int duration() {
+        double seconds = Math.exp(5.5 + gaussian() * 0.6);
+        return (int) Math.max(30, Math.min(3600, seconds));
+    }
+
+    private String difficulty() {
+        int roll = random.nextInt(100);
+        return DIFFICULTIES[roll < 50 ? 0 : roll < 85 ? 1 : 2];
+    }
+
+    // 최근일수록 많이 (0 ~ days일 전)
+    private Timestamp pastTimestamp(int days) {
+        double ago = Math.pow(random.nextDouble(), 2) * Duration.ofDays(days).toMillis();
+        return new Timestamp(System.currentTimeMillis() - (long) ago);
+    }
+
+    // 앞쪽 인덱스가 자주 나오는 분포 (대략 Zipf s=1)
+    private int skewedIndex(int size) {
+        double index = Math.exp(random.nextDouble() * Math.log(size + 1)) - 1;
+        return Math.min(size - 1, (int) index);
+    }
+
+    private double gaussian() {
+        // Box-Muller (SplittableRandom에는 nextGaussian이 없다)
+        double u1 = 1 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    // 시퀀스에서 받은 ID 블록 (Hibernate pooled 최적화와 같은 규칙: nextval 값 hi -> hi-49..hi 사용)
+    private final class IdBlocks {
+
+        private final String sequence;
+        private final ArrayDeque<Long> his = new ArrayDeque<>();
+        private long next = 1;
+        private long hi = 0;
+
+        private IdBlocks(String sequence) {
+            this.sequence = sequence;
+        }
+
+        private long next() throws SQLException {
+            while (next > hi) {
+                if (his.isEmpty()) {
+                    fetch();
+                }
+                hi = his.remove();
+                next = hi - ID_ALLOCATION_SIZE + 1;
+            }
+            return next++;
+        }
+
+        // 배치 하나 분량의 블록을 한 번에 확보
+        private void fetch() throws SQLException {
+            int blocks = Math.max(1, batchSize / ID_ALLOCATION_SIZE);
+            String sql = "SELECT nextval(?::regclass) FROM generate_series(1, ?)";
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, sequence);
+                statement.setInt(2, blocks);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        long value = rs.getLong(1);
+                        // 새 시퀀스의 첫 값(1)은 Hibernate가 1..51로 쓰는 경우가 있으므로 버린다
+                        if (value - ID_ALLOCATION_SIZE + 1 >= 1) {
+                            his.add(value);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,461 @@
+package com.learnsnap.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// HTTP 부하 테스트 (플랫폼 스레드 풀 vs 가상 스레드 서버 비교, 합성 데이터셋 위의 엔드투엔드 측정)
+// 동시 요청 수만큼 비동기 요청 루프를 돌리므로 클라이언트 스레드 수가 동시성을 제한하지 않는다
+// 요청은 시나리오 가중치에 따라 무작위로 고르고, 시나리오별 지연 분위수도 함께 기록한다
+// 설정은 시스템 프로퍼티 (gradle에서는 -Ploadtest.xxx=값)
+//   loadtest.baseUrl          서버 주소 (기본 http://localhost:8080)
+//   loadtest.dataset          DataGenerator가 만든 dataset.properties - 있으면 실제 API 혼합 시나리오
+//   loadtest.mix              데이터셋 시나리오 가중치 (예: videoDetail=50,login=0, 나머지는 기본값)
+//   loadtest.paths            데이터셋이 없을 때 쉼표로 구분한 GET 경로 (같은 가중치)
+//   loadtest.seed             요청 선택 난수 시드 (기본 1)
+//   loadtest.concurrency      동시 요청 수 (기본 500)
+//   loadtest.warmupSeconds    측정 전 워밍업 (기본 10)
+//   loadtest.durationSeconds  측정 시간 (기본 30)
+//   loadtest.token            Authorization: Bearer 토큰 (선택)
+//   loadtest.label            결과 파일 이름 (기본 result)
+//   loadtest.baseline         비교할 이전 결과 label (선택)
+public class LoadTest {
+
+    private static final Pattern JSON_NUMBER = Pattern.compile("\"(\\w+)\":(-?[0-9.]+)");
+
+    // 데이터셋 시나리오 기본 가중치 (조회 위주, 로그인은 BCrypt라 소량)
+    private static final Map<String, Integer> DEFAULT_MIX = new LinkedHashMap<>();
+
+    static {
+        DEFAULT_MIX.put("videoList", 15);
+        DEFAULT_MIX.put("videoCursor", 5);
+        DEFAULT_MIX.put("videoDetail", 30);
+        DEFAULT_MIX.put("popular", 10);
+        DEFAULT_MIX.put("recent", 5);
+        DEFAULT_MIX.put("search", 10);
+        DEFAULT_MIX.put("categoryVideos", 10);
+        DEFAULT_MIX.put("categories", 5);
+        DEFAULT_MIX.put("categoryBySlug", 3);
+        DEFAULT_MIX.put("view", 5);
+        DEFAULT_MIX.put("login", 2);
+    }
+
+    public static void main(String[] args) throws IOException {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        String dataset = System.getProperty("loadtest.dataset");
+        String[] paths = System.getProperty("loadtest.paths", "/api/videos?page=0&size=10,/api/categories").split(",");
+        long seed = Long.getLong("loadtest.seed", 1L);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 500);
+        long warmupSeconds = Long.getLong("loadtest.warmupSeconds", 10L);
+        long durationSeconds = Long.getLong("loadtest.durationSeconds", 30L);
+        String token = System.getProperty("loadtest.token");
+        String label = System.getProperty("loadtest.label", "result");
+        String baseline = System.getProperty("loadtest.baseline");
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        RequestFactory factory = new RequestFactory(baseUrl, token);
+        List<Scenario> scenarios = dataset != null && !dataset.isBlank()
+                ? datasetScenarios(factory, readDataset(Path.of(dataset)), System.getProperty("loadtest.mix", ""))
+                : pathScenarios(factory, paths);
+
+        // 응답 처리 콜백용 스레드 몇 개면 충분하다 (요청 하나에 스레드 하나를 쓰지 않음)
+        ExecutorService callbacks = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(callbacks)
+                .build();
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + Duration.ofSeconds(warmupSeconds).toNanos();
+        long endNanos = measureFromNanos + Duration.ofSeconds(durationSeconds).toNanos();
+
+        System.out.printf("%s: 동시 %d, 워밍업 %ds, 측정 %ds, 시나리오 %s%n",
+                label, concurrency, warmupSeconds, durationSeconds,
+                scenarios.stream().map(s -> s.name() + "=" + s.weight()).toList());
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<Worker> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(client, scenarios, seeds.split(), measureFromNanos, endNanos);
+            workers.add(worker);
+            worker.next();
+        }
+        CompletableFuture.allOf(workers.stream().map(w -> w.done).toArray(CompletableFuture[]::new)).join();
+        callbacks.shutdownNow();
+
+        Map<String, Object> result = summarize(label, concurrency, durationSeconds, scenarios, workers);
+        print(result);
+
+        Files.createDirectories(reportDir);
+        Path reportFile = reportDir.resolve(label + ".json");
+        Files.writeString(reportFile, toJson(result));
+        System.out.println("결과 저장: " + reportFile);
+
+        if (baseline != null && !baseline.isBlank()) {
+            compare(result, readJson(reportDir.resolve(baseline + ".json")), baseline);
+        }
+    }
+
+    private static Map<String, Object> summarize(String label, int concurrency, long durationSeconds,
+                                                 List<Scenario> scenarios, List<Worker> workers) {
+        Recorder total = new Recorder();
+        Map<String, Object> byScenario = new LinkedHashMap<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            Recorder merged = new Recorder();
+            for (Worker worker : workers) {
+                merged.addAll(worker.recorders[i]);
+            }
+            total.addAll(merged);
+            if (merged.count > 0) {
+                byScenario.put(scenarios.get(i).name(), stats(merged, durationSeconds));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("label", label);
+        result.put("concurrency", concurrency);
+        result.put("durationSeconds", durationSeconds);
+        result.putAll(stats(total, durationSeconds));
+        // 시나리오별 결과는 마지막에 (기준 비교는 앞쪽 전체 값만 읽는다)
+        result.put("scenarios", byScenario);
+        return result;
+    }
+
+    private static Map<String, Object> stats(Recorder recorder, long durationSeconds) {
+        long[] latencies = Arrays.copyOf(recorder.latencies, recorder.count);
+        Arrays.sort(latencies);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", recorder.count);
+        stats.put("errors", recorder.errors);
+        stats.put("rateLimited", recorder.rateLimited);
+        stats.put("throughput", round((double) recorder.count / durationSeconds));
+        stats.put("p50Ms", percentile(latencies, 0.50));
+        stats.put("p90Ms", percentile(latencies, 0.90));
+        stats.put("p99Ms", percentile(latencies, 0.99));
+        stats.put("p999Ms", percentile(latencies, 0.999));
+        stats.put("maxMs", latencies.length == 0 ? 0.0 : toMillis(latencies[latencies.length - 1]));
+        return stats;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void print(Map<String, Object> result) {
+        System.out.printf("요청 %s건 (오류 %s, 요청 제한 %s), 처리량 %s req/s%n",
+                result.get("requests"), result.get("errors"), result.get("rateLimited"), result.get("throughput"));
+        System.out.printf("지연 p50 %sms, p90 %sms, p99 %sms, p99.9 %sms, max %sms%n",
+                result.get("p50Ms"), result.get("p90Ms"), result.get("p99Ms"),
+                result.get("p999Ms"), result.get("maxMs"));
+
+        Map<String, Map<String, Object>> scenarios = (Map<String, Map<String, Object>>) result.get("scenarios");
+        if (scenarios.size() > 1) {
+            System.out.printf("%-16s %9s %7s %9s %9s %9s %9s%n", "시나리오", "요청", "오류", "req/s", "p50", "p99", "p99.9");
+            scenarios.forEach((name, stats) -> System.out.printf("%-16s %9s %7s %9s %9s %9s %9s%n",
+                    name, stats.get("requests"), stats.get("errors"), stats.get("throughput"),
+                    stats.get("p50Ms"), stats.get("p99Ms"), stats.get("p999Ms")));
+        }
+    }
+
+    private static void compare(Map<String, Object> result, Map<String, Double> baseline, String baselineLabel) {
+        if (baseline.isEmpty()) {
+            System.out.println("비교할 결과가 없습니다: " + baselineLabel);
+            return;
+        }
+        System.out.println("기준(" + baselineLabel + ") 대비:");
+        for (String key : List.of("throughput", "p50Ms", "p99Ms", "p999Ms")) {
+            Double before = baseline.get(key);
+            double after = ((Number) result.get(key)).doubleValue();
+            if (before == null || before == 0.0) {
+                continue;
+            }
+            System.out.printf(Locale.ROOT, "  %-10s %10.2f -> %10.2f (%+.1f%%)%n",
+                    key, before, after, (after - before) / before * 100);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String toJson(Map<?, ?> result) {
+        StringBuilder json = new StringBuilder("{");
+        result.forEach((key, value) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(key).append("\":");
+            if (value instanceof Map<?, ?> nested) {
+                json.append(toJson(nested));
+            } else {
+                json.append(value instanceof String ? "\"" + value + "\"" : value);
+            }
+        });
+        return json.append('}').toString();
+    }
+
+    // 우리가 쓴 JSON에서 숫자 필드만 읽는다 (같은 이름은 앞쪽 = 전체 값 우선)
+    private static Map<String, Double> readJson(Path file) throws IOException {
+        Map<String, Double> values = new LinkedHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return values;
+        }
+        Matcher matcher = JSON_NUMBER.matcher(Files.readString(file));
+        while (matcher.find()) {
+            values.putIfAbsent(matcher.group(1), Double.parseDouble(matcher.group(2)));
+        }
+        return values;
+    }
+
+    private static Properties readDataset(Path file) throws IOException {
+        Properties dataset = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            dataset.load(reader);
+        }
+        return dataset;
+    }
+
+    private static List<Scenario> pathScenarios(RequestFactory factory, String[] paths) {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String path : paths) {
+            String trimmed = path.trim();
+            scenarios.add(new Scenario(trimmed, 1, random -> factory.get(trimmed)));
+        }
+        return scenarios;
+    }
+
+    // DataGenerator 데이터셋 위에서 VideoController/CategoryController/AuthController 실제 엔드포인트 호출
+    private static List<Scenario> datasetScenarios(RequestFactory factory, Properties dataset, String mix) {
+        long[] videoIds = expandRanges(dataset.getProperty("videoIdRanges"));
+        long[] hotVideoIds = toLongs(dataset.getProperty("hotVideoIds"));
+        long[] categoryIds = toLongs(dataset.getProperty("categoryIds"));
+        String[] categorySlugs = dataset.getProperty("categorySlugs").split(",");
+        String[] searchTerms = dataset.getProperty("searchTerms").split(",");
+        int users = Integer.parseInt(dataset.getProperty("users"));
+        String userEmailFormat = dataset.getProperty("userEmailFormat");
+        String password = dataset.getProperty("password");
+
+        // 인기 비디오에 요청이 몰리도록 80%는 조회수 상위에서
+        Function<SplittableRandom, Long> videoId = random -> random.nextInt(10) < 8 && hotVideoIds.length > 0
+                ? hotVideoIds[random.nextInt(hotVideoIds.length)]
+                : videoIds[random.nextInt(videoIds.length)];
+
+        Map<String, Function<SplittableRandom, HttpRequest>> requests = new LinkedHashMap<>();
+        requests.put("videoList", random -> factory.get("/api/videos?page=" + random.nextInt(10) + "&size=20"));
+        requests.put("videoCursor", random -> factory.get("/api/videos?cursor=&size=20"));
+        requests.put("videoDetail", random -> factory.get("/api/videos/" + videoId.apply(random)));
+        requests.put("popular", random -> factory.get("/api/videos/popular?limit=20"));
+        requests.put("recent", random -> factory.get("/api/videos/recent?limit=20"));
+        requests.put("search", random -> factory.get("/api/videos/search?size=20&q="
+                + encode(searchTerms[random.nextInt(searchTerms.length)])));
+        requests.put("categoryVideos", random -> factory.get("/api/videos/category/"
+                + categoryIds[random.nextInt(categoryIds.length)] + "?size=20"));
+        requests.put("categories", random -> factory.get("/api/categories"));
+        requests.put("categoryBySlug", random -> factory.get("/api/categories/slug/"
+                + categorySlugs[random.nextInt(categorySlugs.length)]));
+        requests.put("view", random -> factory.post("/api/videos/" + videoId.apply(random) + "/view", ""));
+        requests.put("login", random -> factory.post("/api/auth/login", String.format(
+                "{\"email\":\"%s\",\"password\":\"%s\"}",
+                String.format(userEmailFormat, random.nextInt(users) + 1), password)));
+
+        Map<String, Integer> weights = new LinkedHashMap<>(DEFAULT_MIX);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.split("=");
+            if (pair.length == 2 && weights.containsKey(pair[0].trim())) {
+                weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+            }
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        weights.forEach((name, weight) -> {
+            if (weight > 0) {
+                scenarios.add(new Scenario(name, weight, requests.get(name)));
+            }
+        });
+        return scenarios;
+    }
+
+    private static long[] toLongs(String csv) {
+        if (csv == null || csv.isBlank()) {
+            return new long[0];
+        }
+        return Arrays.stream(csv.split(",")).mapToLong(Long::parseLong).toArray();
+    }
+
+    private static long[] expandRanges(String ranges) {
+        List<long[]> parsed = new ArrayList<>();
+        int size = 0;
+        for (String range : ranges.split(",")) {
+            String[] bounds = range.split("-");
+            long from = Long.parseLong(bounds[0]);
+            long to = Long.parseLong(bounds[1]);
+            parsed.add(new long[]{from, to});
+            size += (int) (to - from + 1);
+        }
+        long[] ids = new long[size];
+        int offset = 0;
+        for (long[] range : parsed) {
+            for (long id = range[0]; id <= range[1]; id++) {
+                ids[offset++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    // 이름, 가중치, 요청 생성 (매번 새 요청 - 무작위 ID/검색어)
+    private record Scenario(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private static final class RequestFactory {
+        private final String baseUrl;
+        private final String token;
+
+        private RequestFactory(String baseUrl, String token) {
+            this.baseUrl = baseUrl;
+            this.token = token;
+        }
+
+        private HttpRequest get(String path) {
+            return builder(path).GET().build();
+        }
+
+        private HttpRequest post(String path, String json) {
+            return builder(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest.Builder builder(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json");
+            if (token != null && !token.isBlank()) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder;
+        }
+    }
+
+    // 응답을 받으면 다음 요청을 보내는 루프 하나 (콜백이 겹치지 않으므로 기록에 동기화가 필요 없다)
+    private static final class Worker {
+        private final HttpClient client;
+        private final List<Scenario> scenarios;
+        private final SplittableRandom random;
+        private final int totalWeight;
+        private final long measureFromNanos;
+        private final long endNanos;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private final Recorder[] recorders;
+
+        private Worker(HttpClient client, List<Scenario> scenarios, SplittableRandom random,
+                       long measureFromNanos, long endNanos) {
+            this.client = client;
+            this.scenarios = scenarios;
+            this.random = random;
+            this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+            this.measureFromNanos = measureFromNanos;
+            this.endNanos = endNanos;
+            this.recorders = new Recorder[scenarios.size()];
+            for (int i = 0; i < recorders.length; i++) {
+                recorders[i] = new Recorder();
+            }
+        }
+
+        private void next() {
+            if (System.nanoTime() >= endNanos) {
+                done.complete(null);
+                return;
+            }
+            int index = pick();
+            HttpRequest request = scenarios.get(index).request().apply(random);
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long end = System.nanoTime();
+                        if (start >= measureFromNanos && end <= endNanos) {
+                            recorders[index].record(end - start, error == null ? response.statusCode() : -1);
+                        }
+                        next();
+                    });
+        }
+
+        private int pick() {
+            int roll = random.nextInt(totalWeight);
+            for (int i = 0; i < scenarios.size(); i++) {
+                roll -= scenarios.get(i).weight();
+                if (roll < 0) {
+                    return i;
+                }
+            }
+            return scenarios.size() - 1;
+        }
+    }
+
+    // 지연 기록 (429는 요청 제한으로 따로 센다)
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long rateLimited;
+
+        private void record(long nanos, int status) {
+            if (status == 429) {
+                rateLimited++;
+            } else if (status < 0 || status >= 400) {
+                errors++;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        private void addAll(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, Math.max(count + other.count, latencies.length * 2));
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            rateLimited += other.rateLimited;
+        }
+    }
+}
\ No newline at end of file
@@ -2,8 +2,14 @@ package com.learnsnap;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableAsync
+@PropertySource("classpath:learnsnap.properties")
 public class LearnsnapApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,92 @@
+package com.learnsnap.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 복제본 URL이 설정되어 있으면 자동 구성된 dataSource를 ReplicaRoutingDataSource로 감싼다
+// (없으면 아무것도 하지 않음 - 모든 요청이 primary)
+@Slf4j
+@Component
+public class ReplicaDataSourcePostProcessor implements BeanPostProcessor, DisposableBean {
+
+    private final List<String> replicaUrls;
+    private final String username;
+    private final String password;
+    private final int poolSize;
+    private final long connectionTimeoutMillis;
+    private final long maxLagMillis;
+    private final long readYourWritesMillis;
+    private final long checkIntervalMillis;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    public ReplicaDataSourcePostProcessor(
+            @Value("${learnsnap.datasource.replica-urls:}") String replicaUrls,
+            @Value("${learnsnap.datasource.replica-username:${spring.datasource.username:}}") String username,
+            @Value("${learnsnap.datasource.replica-password:${spring.datasource.password:}}") String password,
+            @Value("${learnsnap.datasource.replica-pool-size:10}") int poolSize,
+            @Value("${learnsnap.datasource.replica-connection-timeout-millis:1000}") long connectionTimeoutMillis,
+            @Value("${learnsnap.datasource.replica-max-lag-millis:1000}") long maxLagMillis,
+            @Value("${learnsnap.datasource.read-your-writes-millis:2000}") long readYourWritesMillis,
+            @Value("${learnsnap.datasource.replica-check-interval-millis:1000}") long checkIntervalMillis) {
+        this.replicaUrls = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        this.username = username;
+        this.password = password;
+        this.poolSize = poolSize;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.maxLagMillis = maxLagMillis;
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (replicaUrls.isEmpty() || !"dataSource".equals(beanName) || !(bean instanceof DataSource primary)) {
+            return bean;
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("replica-" + i);
+            config.setJdbcUrl(replicaUrls.get(i));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            // 복제본이 죽어 있어도 기동/요청이 오래 막히지 않도록
+            config.setConnectionTimeout(connectionTimeoutMillis);
+            config.setInitializationFailTimeout(-1);
+            pools.add(new HikariDataSource(config));
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, pools,
+                maxLagMillis, readYourWritesMillis, checkIntervalMillis);
+        log.info("읽기 전용 트랜잭션 복제본 라우팅: 복제본 {}개, 지연 한도 {}ms, read-your-writes {}ms",
+                pools.size(), maxLagMillis, readYourWritesMillis);
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 때 연결을 가져와야 readOnly 여부로 고를 수 있다
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    public void destroy() {
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,222 @@
+package com.learnsnap.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// readOnly 트랜잭션은 복제본으로, 나머지는 primary로 보내는 DataSource
+// - 복제본 선택: 지연(lag)이 한도 이하인 복제본 중 round-robin, 없거나 연결 실패면 primary
+// - read-your-writes: 쓰기 트랜잭션을 커밋한 사용자(비로그인은 IP)는 잠시 동안 읽기도 primary에서
+// - onPrimary: 캐시 로더처럼 읽은 값을 오래 들고 있는 쪽은 누가 썼는지와 상관없이 primary에서
+//   (read-your-writes는 쓴 사람 본인만 덮으므로, 다른 사용자/비동기 스레드가 다시 채운 캐시에 옛 값이 남는다)
+// 트랜잭션의 readOnly 여부는 첫 쿼리 때 알 수 있으므로 LazyConnectionDataSourceProxy로 감싸서 사용한다
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // 복제본 지연 (WAL 수신분을 모두 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간)
+    private static final String LAG_SQL = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagMillis;
+    private final long stickyNanos;
+
+    // onPrimary 범위 안인지 (커넥션을 얻는 스레드 기준)
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // 사용자(또는 IP) -> primary에서 읽어야 하는 기한 (System.nanoTime)
+    private final ConcurrentHashMap<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                    long maxLagMillis, long readYourWritesMillis, long checkIntervalMillis) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLagMillis = maxLagMillis;
+        this.stickyNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
+        monitor.scheduleWithFixedDelay(this::check, 0, checkIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return primary.getConnection();
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriter();
+            return primary.getConnection();
+        }
+        if (Boolean.TRUE.equals(PRIMARY_READS.get()) || readsOwnWrites()) {
+            return primary.getConnection();
+        }
+
+        Replica replica = select();
+        if (replica != null) {
+            try {
+                return replica.pool.getConnection();
+            } catch (SQLException e) {
+                // 다음 점검에서 다시 확인될 때까지 제외
+                replica.available = false;
+                log.warn("복제본 연결 실패, primary로 전환: {}", replica.pool.getPoolName(), e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    // reads 안에서 새로 얻는 커넥션은 readOnly 트랜잭션이어도 primary (복제본 라우팅이 없으면 영향 없음)
+    // 트랜잭션 밖에서 호출해야 한다 - 이미 복제본 커넥션을 잡은 트랜잭션 안에서는 바뀌지 않는다
+    public static <T> T onPrimary(Supplier<T> reads) {
+        Boolean previous = PRIMARY_READS.get();
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    // 풀 메트릭/헬스 체크는 primary 기준
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    @Override
+    public void close() {
+        monitor.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    // 지연 한도 안의 복제본을 돌아가며 선택 (없으면 null)
+    private Replica select() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available && replica.lagMillis <= maxLagMillis) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 그 시점부터 stickyNanos 동안 같은 사용자의 읽기를 primary로
+    private void rememberWriter() {
+        String writer = currentWriter();
+        if (writer == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    recentWriters.put(writer, System.nanoTime() + stickyNanos);
+                }
+            }
+        });
+    }
+
+    private boolean readsOwnWrites() {
+        String writer = currentWriter();
+        if (writer == null) {
+            return false;
+        }
+        Long until = recentWriters.get(writer);
+        return until != null && System.nanoTime() - until < 0;
+    }
+
+    // 로그인 사용자는 이메일, 아니면 요청 IP (회원가입 직후 로그인 등), 요청 밖(스케줄러)은 null
+    private static String currentWriter() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return "ip:" + request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    // 복제본별 지연 측정 + 기한 지난 read-your-writes 항목 정리
+    private void check() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(5);
+                try (ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    replica.lagMillis = rs.getLong(1);
+                }
+                if (!replica.available) {
+                    log.info("복제본 사용 가능: {} (지연 {}ms)", replica.pool.getPoolName(), replica.lagMillis);
+                }
+                replica.available = true;
+            } catch (SQLException | RuntimeException e) {
+                if (replica.available) {
+                    log.warn("복제본 점검 실패, 제외: {}", replica.pool.getPoolName(), e);
+                }
+                replica.available = false;
+            }
+        }
+
+        long now = System.nanoTime();
+        recentWriters.values().removeIf(until -> now - until >= 0);
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        // 첫 점검 전에는 사용하지 않는다
+        private volatile boolean available;
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
\ No newline at end of file
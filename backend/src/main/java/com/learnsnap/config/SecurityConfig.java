@@ -1,9 +1,20 @@
 package com.learnsnap.config;
 
 import com.learnsnap.security.JwtAuthenticationFilter;
+import com.learnsnap.security.RateLimitFilter;
+import com.learnsnap.security.RateLimitRule;
+import com.learnsnap.security.RateLimiter;
+import com.learnsnap.util.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;  // 추가!
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -11,12 +22,19 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.IpAddressAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
@@ -25,9 +43,20 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            @Value("${learnsnap.rate-limit.auth-per-minute:10}") int authPerMinute,
+            @Value("${learnsnap.rate-limit.video-view-per-minute:60}") int videoViewPerMinute,
+            @Value("${learnsnap.rate-limit.video-like-per-minute:30}") int videoLikePerMinute,
+            @Value("${learnsnap.rate-limit.upload-per-minute:120}") int uploadPerMinute,
+            @Value("${learnsnap.rate-limit.password-change-per-minute:5}") int passwordChangePerMinute,
+            @Value("${learnsnap.metrics.allowed-networks:127.0.0.1/32,::1/128}") String[] metricsNetworks) throws Exception {
         http
             // CSRF 비활성화
             .csrf(csrf -> csrf.disable())
@@ -52,27 +81,80 @@ public class SecurityConfig {
                     "/api/categories/**",
                     "/api/videos",           // GET /api/videos (전체 조회)
                     "/api/videos/*",         // GET /api/videos/{id} (특정 조회)
-                    "/api/videos/*/view"     // POST /api/videos/{id}/view (조회수 증가)
+                    "/api/videos/*/view",    // POST /api/videos/{id}/view (조회수 증가)
+                    "/api/videos/*/stream",  // GET /api/videos/{id}/stream (스트리밍)
+                    "/api/videos/*/thumbnails/*",  // GET /api/videos/{id}/thumbnails/{width} (썸네일)
+                    "/actuator/health"
                 ).permitAll()
+
+                // 메트릭 수집 (Prometheus scrape) - 허용된 네트워크 또는 관리자만
+                .requestMatchers("/actuator/prometheus").access(metricsAccess(metricsNetworks))
                 
                 // 인증 필요한 경로
                 .requestMatchers(
-                    "/api/users/**"
+                    "/api/users/**",
+                    "/api/videos/*/like",    // POST/DELETE /api/videos/{id}/like (좋아요)
+                    "/api/uploads/**"        // 비디오 파일 업로드
                 ).authenticated()
                 
                 // 나머지는 모두 허용 (개발 단계)
                 .anyRequest().permitAll()
             )
             
+            // 토큰이 없거나 폐기된 요청은 401 (기본값은 403)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
+
             // JWT 필터 
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+            // 요청 제한 필터 (JWT 인증보다 먼저 - 거절할 요청은 인증 처리도 하지 않는다)
+            .addFilterBefore(rateLimitFilter(authPerMinute, videoViewPerMinute, videoLikePerMinute,
+                    uploadPerMinute, passwordChangePerMinute), JwtAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // 경로별 요청 제한 (토큰 버킷 - period 동안 limit회, 처음 맞는 규칙 하나만 적용)
+    // 부하 테스트처럼 한 IP에서 몰아서 보낼 때는 설정으로 한도를 올린다
+    private RateLimitFilter rateLimitFilter(int authPerMinute, int videoViewPerMinute, int videoLikePerMinute,
+                                            int uploadPerMinute, int passwordChangePerMinute) {
+        return new RateLimitFilter(rateLimiter, jwtUtil, jsonMapper, meterRegistry, List.of(
+                // 로그인/회원가입: 기본 IP당 분당 10회 (BCrypt 작업 보호)
+                RateLimitRule.perIp("auth", HttpMethod.POST, "/api/auth/**", authPerMinute, Duration.ofMinutes(1)),
+                // 조회수 증가: 기본 사용자(토큰이 없으면 IP)당 분당 60회
+                RateLimitRule.perUserOrIp("video-view", HttpMethod.POST, "/api/videos/*/view", videoViewPerMinute, Duration.ofMinutes(1)),
+                // 좋아요/취소: 같은 이름이라 버킷을 함께 쓴다 (번갈아 보내 카운터/인덱스를 흔드는 것 방지)
+                RateLimitRule.perUserOrIp("video-like", HttpMethod.POST, "/api/videos/*/like", videoLikePerMinute, Duration.ofMinutes(1)),
+                RateLimitRule.perUserOrIp("video-like", HttpMethod.DELETE, "/api/videos/*/like", videoLikePerMinute, Duration.ofMinutes(1)),
+                // 업로드: 세션 생성/파트/완료/상태 조회 합산 (기본 8MB 파트 기준 분당 약 1GB)
+                RateLimitRule.perUserOrIp("upload", HttpMethod.POST, "/api/uploads/**", uploadPerMinute, Duration.ofMinutes(1)),
+                RateLimitRule.perUserOrIp("upload", HttpMethod.PUT, "/api/uploads/**", uploadPerMinute, Duration.ofMinutes(1)),
+                RateLimitRule.perUserOrIp("upload", HttpMethod.GET, "/api/uploads/**", uploadPerMinute, Duration.ofMinutes(1)),
+                // 비밀번호 변경: 현재 비밀번호 BCrypt 검증을 대입 공격에 쓰지 못하도록
+                RateLimitRule.perUserOrIp("password-change", HttpMethod.PUT, "/api/users/me/password", passwordChangePerMinute, Duration.ofMinutes(1))
+        ));
+    }
+
+    // 메트릭에는 경로별 트래픽/지연과 내부 상태가 담기므로 공개하지 않는다
+    // Prometheus는 토큰 없이 긁으므로 네트워크로 허용하고, 그 밖에서는 ADMIN 토큰 필요
+    @SuppressWarnings("unchecked")
+    private AuthorizationManager<RequestAuthorizationContext> metricsAccess(String[] networks) {
+        List<AuthorizationManager<RequestAuthorizationContext>> managers = new ArrayList<>();
+        managers.add(AuthorityAuthorizationManager.hasRole("ADMIN"));
+        for (String network : networks) {
+            if (!network.isBlank()) {
+                managers.add(IpAddressAuthorizationManager.hasIpAddress(network.trim()));
+            }
+        }
+        return AuthorizationManagers.anyOf(managers.toArray(AuthorizationManager[]::new));
+    }
+
+    // cost를 올리면 기존 해시는 다음 로그인 때 새 cost로 다시 저장된다 (AuthService)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${learnsnap.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -1,14 +1,18 @@
 package com.learnsnap.controller;
 
+import com.learnsnap.dto.CacheStatsResponse;
 import com.learnsnap.dto.CategoryRequest;
 import com.learnsnap.dto.CategoryResponse;
 import com.learnsnap.service.CategoryService;
+import com.learnsnap.service.ContentVersionTracker;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,19 +22,49 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ContentVersionTracker contentVersionTracker;
 
-    // 전체 카테고리 조회
+    // 전체 카테고리 조회 (조회 API는 모두 If-None-Match가 현재 버전과 같으면 서비스 호출 없이 304)
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(WebRequest webRequest) {
+        String etag = contentVersionTracker.categoryTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         List<CategoryResponse> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+        return revalidated(etag).body(categories);
     }
 
     // 특정 카테고리 조회
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable Long id, WebRequest webRequest) {
+        String etag = contentVersionTracker.categoryTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         CategoryResponse category = categoryService.getCategoryById(id);
-        return ResponseEntity.ok(category);
+        return revalidated(etag).body(category);
+    }
+
+    // slug로 카테고리 조회
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<CategoryResponse> getCategoryBySlug(@PathVariable String slug, WebRequest webRequest) {
+        String etag = contentVersionTracker.categoryTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        CategoryResponse category = categoryService.getCategoryBySlug(slug);
+        return revalidated(etag).body(category);
+    }
+
+    // 카테고리 캐시 통계 (관리자 전용)
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(categoryService.getCacheStats());
     }
 
     // 카테고리 생성 (관리자 전용)
@@ -59,4 +93,11 @@ public class CategoryController {
         categoryService.deleteCategory(id);
         return ResponseEntity.noContent().build();
     }
+
+    // 클라이언트가 매번 ETag로 재검증하도록 (바뀌지 않았으면 304)
+    private static ResponseEntity.BodyBuilder revalidated(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.learnsnap.controller;
+
+import com.learnsnap.dto.UploadCompleteRequest;
+import com.learnsnap.dto.UploadInitRequest;
+import com.learnsnap.dto.UploadSessionResponse;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.security.AuthenticatedUser;
+import com.learnsnap.service.UploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+// 비디오 파일 업로드 (파트 단위, 이어 올리기 가능)
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('INSTRUCTOR', 'ADMIN')")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    // 업로드 시작
+    @PostMapping
+    public ResponseEntity<UploadSessionResponse> initUpload(
+            @Valid @RequestBody UploadInitRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        UploadSessionResponse response = uploadService.initUpload(request, user.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // 파트 업로드 (본문 = 파트 바이트, X-Chunk-Checksum = SHA-256 hex)
+    @PutMapping("/{uploadId}/parts/{partNumber}")
+    public ResponseEntity<UploadSessionResponse> uploadPart(
+            @PathVariable String uploadId,
+            @PathVariable int partNumber,
+            @RequestHeader(value = "X-Chunk-Checksum", required = false) String checksum,
+            HttpServletRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) throws IOException {
+
+        UploadSessionResponse response = uploadService.uploadPart(
+                uploadId, partNumber, checksum, request.getInputStream(), user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    // 업로드 상태 (이어 올리기 시 남은 파트 확인)
+    @GetMapping("/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getStatus(
+            @PathVariable String uploadId,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        UploadSessionResponse response = uploadService.getStatus(uploadId, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    // 업로드 완료 -> 비디오 생성
+    @PostMapping("/{uploadId}/complete")
+    public ResponseEntity<VideoResponse> completeUpload(
+            @PathVariable String uploadId,
+            @Valid @RequestBody UploadCompleteRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        VideoResponse response = uploadService.completeUpload(uploadId, request, user.getEmail(), user.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
\ No newline at end of file
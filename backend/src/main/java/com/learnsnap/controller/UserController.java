@@ -1,11 +1,14 @@
 package com.learnsnap.controller;
 
+import com.learnsnap.dto.ChangePasswordRequest;
+import com.learnsnap.dto.ChangeRoleRequest;
 import com.learnsnap.dto.UpdateProfileRequest;
 import com.learnsnap.dto.UserResponse;
 import com.learnsnap.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -39,4 +42,32 @@ public class UserController {
         UserResponse response = userService.updateProfile(email, request);
         return ResponseEntity.ok(response);
     }
+
+    // 비밀번호 변경 - 기존 토큰은 모두 무효가 되므로 다시 로그인해야 한다
+    @PutMapping("/me/password")
+    public ResponseEntity<Void> changePassword(@Valid @RequestBody ChangePasswordRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+
+        userService.changePassword(email, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 권한 변경 (관리자 전용)
+    @PutMapping("/{id}/role")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserResponse> changeRole(
+            @PathVariable Long id,
+            @Valid @RequestBody ChangeRoleRequest request) {
+        UserResponse response = userService.changeRole(id, request.getRole());
+        return ResponseEntity.ok(response);
+    }
+
+    // 사용자 삭제 (관리자 전용)
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
+        userService.deleteUser(id);
+        return ResponseEntity.noContent().build();
+    }
 }
\ No newline at end of file
@@ -1,22 +1,45 @@
 package com.learnsnap.controller;
 
+import com.learnsnap.config.ReplicaRoutingDataSource;
 import com.learnsnap.domain.video.DifficultyLevel;
+import com.learnsnap.dto.LikeResponse;
+import com.learnsnap.dto.VideoFilter;
+import com.learnsnap.dto.VideoImportResponse;
 import com.learnsnap.dto.VideoRequest;
 import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.dto.VideoSortKey;
+import com.learnsnap.security.AuthenticatedUser;
+import com.learnsnap.service.ContentVersionTracker;
+import com.learnsnap.service.EncodedResponseCache;
+import com.learnsnap.service.ThumbnailService;
+import com.learnsnap.service.VideoImportService;
 import com.learnsnap.service.VideoService;
+import com.learnsnap.service.VideoStreamService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
 import java.util.Map;
 import java.util.List;
 
@@ -26,38 +49,75 @@ import java.util.List;
 public class VideoController {
 
     private final VideoService videoService;
+    private final VideoStreamService videoStreamService;
+    private final ThumbnailService thumbnailService;
+    private final ContentVersionTracker contentVersionTracker;
+    private final EncodedResponseCache encodedResponseCache;
+    private final VideoImportService videoImportService;
 
     // 전체 비디오 조회 (페이징)
+    // 카테고리/난이도/강사/재생 시간 범위/키워드 조건을 자유롭게 조합, 정렬은 VideoSortKey 목록만 허용
+    // cursor 파라미터가 있으면 커서 페이징 (첫 페이지는 cursor= 로 요청)
     @GetMapping
-    public ResponseEntity<Page<VideoResponse>> getAllVideos(
+    public ResponseEntity<?> getAllVideos(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sort,
             @RequestParam(defaultValue = "DESC") String direction,
             @RequestParam(required = false) Long categoryId,
-            @RequestParam(required = false) DifficultyLevel difficulty) {
-        
+            @RequestParam(required = false) DifficultyLevel difficulty,
+            @RequestParam(required = false) Long instructorId,
+            @RequestParam(required = false) Integer minDuration,
+            @RequestParam(required = false) Integer maxDuration,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+
+        // 정렬 기준은 캐시 확인 전에 검증 (지원하지 않는 값이면 400)
+        VideoSortKey sortKey = VideoSortKey.fromProperty(sort);
+
+        // If-None-Match가 현재 버전과 같으면 서비스 호출 없이 304
+        String etag = contentVersionTracker.videoListTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC") 
                 ? Sort.Direction.ASC : Sort.Direction.DESC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        Page<VideoResponse> videos;
-        if (categoryId != null) {
-            videos = videoService.getVideosByCategory(categoryId, pageable);
-        } else if (difficulty != null) {
-            videos = videoService.getVideosByDifficulty(difficulty, pageable);
-        } else {
-            videos = videoService.getAllVideos(pageable);
+        VideoFilter filter = VideoFilter.builder()
+                .categoryId(categoryId)
+                .difficulty(difficulty)
+                .instructorId(instructorId)
+                .minDuration(minDuration)
+                .maxDuration(maxDuration)
+                .keyword(keyword)
+                .build();
+
+        if (cursor != null) {
+            return revalidated(etag).body(videoService.getVideosAfter(
+                    filter, sortKey, sortDirection, cursor, size));
         }
 
-        return ResponseEntity.ok(videos);
+        Page<VideoResponse> videos = videoService.getVideos(filter, sortKey, sortDirection, page, size);
+        return revalidated(etag).body(videos);
     }
 
-    // 특정 비디오 조회
+    // 특정 비디오 조회 (If-None-Match가 현재 버전과 같으면 서비스 호출 없이 304)
+    // 같은 버전이면 캐시된 JSON/gzip 바이트를 그대로 쓴다
     @GetMapping("/{id}")
-    public ResponseEntity<VideoResponse> getVideoById(@PathVariable Long id) {
-        VideoResponse video = videoService.getVideoById(id);
-        return ResponseEntity.ok(video);
+    public ResponseEntity<byte[]> getVideoById(@PathVariable Long id, WebRequest webRequest) {
+        String version = contentVersionTracker.videoTag(id);
+        boolean gzip = EncodedResponseCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? gzipTag(version) : version;
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        // 캐시된 바이트는 다음 버전까지 쓰이므로 복제 지연과 상관없이 primary에서 만든다
+        EncodedResponseCache.Encoded video = encodedResponseCache.video(id, version,
+                () -> ReplicaRoutingDataSource.onPrimary(() -> videoService.getVideoById(id)));
+        return encoded(video, etag, gzip);
     }
 
     // 비디오 생성 (강사/관리자)
@@ -71,6 +131,19 @@ public class VideoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(video);
     }
 
+    // 비디오 일괄 등록 (관리자) - 본문을 스트리밍으로 읽어 배치 INSERT
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VideoImportResponse> importVideosNdjson(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(videoImportService.importNdjson(request.getInputStream()));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<VideoImportResponse> importVideosCsv(HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(videoImportService.importCsv(request.getInputStream()));
+    }
+
     // 비디오 수정 (본인 또는 관리자)
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('INSTRUCTOR', 'ADMIN')")
@@ -103,26 +176,112 @@ public class VideoController {
         return ResponseEntity.ok(response);
     }
 
+    // 로컬 저장 비디오 스트리밍 (Range 요청 지원)
+    @GetMapping("/{id}/stream")
+    public void streamVideo(
+            @PathVariable Long id,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        videoStreamService.stream(id, request, response);
+    }
+
+    // 썸네일 (v=해시가 맞으면 1년 캐시, 아직 생성 전이면 원본으로)
+    @GetMapping("/{id}/thumbnails/{width}")
+    public ResponseEntity<Resource> getThumbnail(
+            @PathVariable Long id,
+            @PathVariable int width,
+            @RequestParam(required = false) String v) {
+
+        ThumbnailService.Thumbnail thumbnail = thumbnailService.lookup(id, width);
+        switch (thumbnail.getType()) {
+            case READY:
+                if (!thumbnail.getVersion().equals(v)) {
+                    // 버전 없는(또는 예전) URL -> 현재 버전 URL로
+                    return ResponseEntity.status(HttpStatus.FOUND)
+                            .location(URI.create(thumbnail.getLocation()))
+                            .cacheControl(CacheControl.noCache())
+                            .build();
+                }
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                        .eTag(thumbnail.getVersion() + "-" + width)
+                        .contentType(MediaType.IMAGE_JPEG)
+                        .body(new FileSystemResource(thumbnail.getFile()));
+            case ORIGINAL:
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache())
+                        .body(new FileSystemResource(thumbnail.getFile()));
+            default:
+                return ResponseEntity.status(HttpStatus.FOUND)
+                        .location(URI.create(thumbnail.getLocation()))
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+        }
+    }
+
+    // 좋아요
+    @PostMapping("/{id}/like")
+    public ResponseEntity<LikeResponse> likeVideo(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        LikeResponse response = videoService.likeVideo(id, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
+    // 좋아요 취소
+    @DeleteMapping("/{id}/like")
+    public ResponseEntity<LikeResponse> unlikeVideo(
+            @PathVariable Long id,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+
+        LikeResponse response = videoService.unlikeVideo(id, user.getId());
+        return ResponseEntity.ok(response);
+    }
+
     // 비디오 검색
     @GetMapping("/search")
-    public ResponseEntity<Page<VideoResponse>> searchVideos(
+    public ResponseEntity<?> searchVideos(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        if (cursor != null) {
+            return ResponseEntity.ok(videoService.searchVideosAfter(q, cursor, size));
+        }
+
+        // 관련도순 정렬 (검색 인덱스)
+        Pageable pageable = PageRequest.of(page, size);
         Page<VideoResponse> videos = videoService.searchVideos(q, pageable);
         return ResponseEntity.ok(videos);
     }
 
-    // 카테고리별 비디오 조회 (난이도 필터 포함)
+    // 카테고리별 비디오 조회 (난이도 필터 포함, 목록 버전이 그대로면 304)
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<Page<VideoResponse>> getVideosByCategory(
+    public ResponseEntity<?> getVideosByCategory(
             @PathVariable Long categoryId,
             @RequestParam(required = false) DifficultyLevel difficulty,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+
+        String etag = contentVersionTracker.videoListTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        if (cursor != null) {
+            VideoFilter filter = VideoFilter.builder()
+                    .categoryId(categoryId)
+                    .difficulty(difficulty)
+                    .build();
+            return revalidated(etag).body(videoService.getVideosAfter(
+                    filter, VideoSortKey.CREATED_AT, Sort.Direction.DESC, cursor, size));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         
         Page<VideoResponse> videos;
@@ -132,28 +291,57 @@ public class VideoController {
             videos = videoService.getVideosByCategory(categoryId, pageable);
         }
         
-        return ResponseEntity.ok(videos);
+        return revalidated(etag).body(videos);
     }
 
-    // 강사별 비디오 조회
+    // 강사별 비디오 조회 (목록 버전이 그대로면 304)
     @GetMapping("/instructor/{instructorId}")
-    public ResponseEntity<Page<VideoResponse>> getVideosByInstructor(
+    public ResponseEntity<?> getVideosByInstructor(
             @PathVariable Long instructorId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            WebRequest webRequest) {
+
+        String etag = contentVersionTracker.videoListTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        if (cursor != null) {
+            VideoFilter filter = VideoFilter.builder()
+                    .instructorId(instructorId)
+                    .build();
+            return revalidated(etag).body(videoService.getVideosAfter(
+                    filter, VideoSortKey.CREATED_AT, Sort.Direction.DESC, cursor, size));
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<VideoResponse> videos = videoService.getVideosByInstructor(instructorId, pageable);
-        return ResponseEntity.ok(videos);
+        return revalidated(etag).body(videos);
     }
 
-    // 인기 비디오
+    // 인기 비디오 (categoryId가 있으면 카테고리별, limit은 1~learnsnap.trending.top-k)
+    // 순위와 비디오 내용이 그대로면 304, 캐시된 바이트가 있으면 직렬화 없이 응답
     @GetMapping("/popular")
-    public ResponseEntity<List<VideoResponse>> getPopularVideos(
-            @RequestParam(defaultValue = "10") int limit) {
-        
-        List<VideoResponse> videos = videoService.getPopularVideos(limit);
-        return ResponseEntity.ok(videos);
+    public ResponseEntity<byte[]> getPopularVideos(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest webRequest) {
+
+        videoService.checkPopularLimit(limit);
+        String version = contentVersionTracker.popularTag(categoryId, limit);
+        boolean gzip = EncodedResponseCache.acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? gzipTag(version) : version;
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        EncodedResponseCache.Encoded videos = encodedResponseCache.popular(categoryId, limit, version,
+                () -> ReplicaRoutingDataSource.onPrimary(() -> categoryId != null
+                        ? videoService.getPopularVideosByCategory(categoryId, limit)
+                        : videoService.getPopularVideos(limit)));
+        return encoded(videos, etag, gzip);
     }
 
     // 최신 비디오
@@ -164,4 +352,27 @@ public class VideoController {
         List<VideoResponse> videos = videoService.getRecentVideos(limit);
         return ResponseEntity.ok(videos);
     }
+
+    // 클라이언트가 매번 ETag로 재검증하도록 (바뀌지 않았으면 304)
+    private static ResponseEntity.BodyBuilder revalidated(String etag) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag);
+    }
+
+    // 캐시된 바이트를 그대로 응답 (gzip을 받는 클라이언트에는 압축본)
+    private static ResponseEntity<byte[]> encoded(EncodedResponseCache.Encoded encoded, String etag, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = revalidated(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.getGzip());
+        }
+        return builder.body(encoded.getJson());
+    }
+
+    // 압축본은 바이트가 다르므로 강한 ETag도 달라야 한다 ("..." -> "...-gz")
+    private static String gzipTag(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gz\"";
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 255)
@@ -42,6 +44,13 @@ public class User {
     @Column(length = 500)
     private String bio;
 
+    // 토큰 버전 (비밀번호/권한 변경 시 증가 -> 이전에 발급된 토큰 무효화)
+    // 비밀번호 변경은 해시 계산을 트랜잭션 밖에서 하므로 UserRepository.changePassword에서 함께 올린다
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer tokenVersion = 0;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -50,9 +59,10 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
-    // 비밀번호 변경 메서드 
-    public void updatePassword(String newPassword) {
-        this.password = newPassword;
+    // 권한 변경 메서드
+    public void changeRole(Role role) {
+        this.role = role;
+        this.tokenVersion++;
     }
 
     // 프로필 업데이트 메서드 
@@ -20,8 +20,13 @@ import java.time.LocalDateTime;
 @Builder
 public class Video {
 
+    // 시퀀스 1회 호출로 ID를 allocationSize개씩 확보 (pooled) -> insert 배치 가능, 일괄 등록도 같은 시퀀스 사용
+    public static final String ID_SEQUENCE = "videos_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -51,11 +56,13 @@ public class Video {
     @JoinColumn(name = "instructor_id", nullable = false)
     private User instructor;
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountBuffer가 배치 UPDATE로만 변경 (dirty checking으로 덮어쓰지 않도록)
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long viewsCount = 0L;
 
-    @Column(nullable = false)
+    // 좋아요 수도 LikeCountBuffer가 배치 UPDATE로만 변경
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Long likesCount = 0L;
 
@@ -77,21 +84,4 @@ public class Video {
         this.difficultyLevel = difficultyLevel;
         this.category = category;
     }
-
-    // 조회수 증가
-    public void incrementViews() {
-        this.viewsCount++;
-    }
-
-    // 좋아요 증가
-    public void incrementLikes() {
-        this.likesCount++;
-    }
-
-    // 좋아요 감소
-    public void decrementLikes() {
-        if (this.likesCount > 0) {
-            this.likesCount--;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.learnsnap.domain.video;
+
+import com.learnsnap.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+// 사용자별 좋아요 (같은 비디오에 한 번만 - unique 제약으로 보장)
+@Entity
+@Table(
+        name = "video_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_video_likes_video_user", columnNames = {"video_id", "user_id"})
+)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.util.LruCache;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRate;
+
+    public static CacheStatsResponse of(String name, LruCache<?, ?> cache) {
+        long hits = cache.getHits();
+        long misses = cache.getMisses();
+        long requests = hits + misses;
+
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(cache.size())
+                .maxSize(cache.getMaxSize())
+                .hits(hits)
+                .misses(misses)
+                .evictions(cache.getEvictions())
+                .hitRate(requests == 0 ? 0.0 : (double) hits / requests)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.domain.user.Role;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChangeRoleRequest {
+
+    @NotNull(message = "권한은 필수입니다")
+    private Role role;
+}
\ No newline at end of file
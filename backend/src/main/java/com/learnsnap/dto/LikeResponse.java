@@ -0,0 +1,17 @@
+package com.learnsnap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LikeResponse {
+
+    private Long videoId;
+    private boolean liked;
+    private Long likesCount;
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.learnsnap.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadInitRequest {
+
+    @NotBlank(message = "파일 이름은 필수입니다")
+    @Size(max = 255, message = "파일 이름은 255자 이하여야 합니다")
+    private String fileName;
+
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Min(value = 1, message = "파일 크기는 1바이트 이상이어야 합니다")
+    private Long fileSize;
+
+    // 파트 크기 (없으면 서버 기본값)
+    private Integer partSize;
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.learnsnap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UploadSessionResponse {
+
+    private String uploadId;
+    private String fileName;
+    private Long fileSize;
+    private Integer partSize;
+    private Integer partCount;
+    private List<Integer> uploadedParts;  // 이어 올리기 - 이 목록에 없는 파트만 보내면 된다
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 페이징 위치 (마지막 항목의 정렬 값 + id)
+// 클라이언트에는 Base64 문자열로만 노출된다
+@Getter
+@AllArgsConstructor
+public class VideoCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final VideoSortKey sortKey;
+    private final Sort.Direction direction;
+    private final String value;
+    private final Long lastId;
+
+    // 마지막 항목으로 다음 커서 생성
+    public static VideoCursor after(VideoSortKey sortKey, Sort.Direction direction, VideoResponse last) {
+        return new VideoCursor(sortKey, direction, sortKey.formatValue(last), last.getId());
+    }
+
+    // 정렬 컬럼 타입으로 변환된 값
+    public Comparable<?> getTypedValue() {
+        return sortKey.parseValue(value);
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + value + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 해석 (빈 문자열이면 첫 페이지)
+    public static VideoCursor decode(String cursor, VideoSortKey sortKey, Sort.Direction direction) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        VideoCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("잘못된 커서입니다");
+            }
+            decoded = new VideoCursor(
+                    VideoSortKey.valueOf(parts[0]),
+                    Sort.Direction.valueOf(parts[1]),
+                    parts[2],
+                    Long.valueOf(parts[3]));
+            decoded.getTypedValue();
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다");
+        }
+
+        // 커서는 만들어질 때의 정렬 기준으로만 사용할 수 있다
+        if (decoded.sortKey != sortKey || decoded.direction != direction) {
+            throw new InvalidCursorException("커서의 정렬 기준이 요청과 다릅니다");
+        }
+        return decoded;
+    }
+}
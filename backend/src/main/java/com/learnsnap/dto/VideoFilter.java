@@ -0,0 +1,19 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.domain.video.DifficultyLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+// 비디오 목록 조회 조건 (null인 조건은 무시)
+@Getter
+@Builder
+public class VideoFilter {
+
+    private final Long categoryId;
+    private final DifficultyLevel difficulty;
+    private final Long instructorId;
+    private final String keyword;
+    // 재생 시간 범위 (초, 양 끝 포함)
+    private final Integer minDuration;
+    private final Integer maxDuration;
+}
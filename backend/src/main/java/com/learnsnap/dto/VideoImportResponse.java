@@ -0,0 +1,21 @@
+package com.learnsnap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoImportResponse {
+
+    private long imported;
+    private long rejected;
+    private List<String> errors;  // 거부된 행의 앞부분만 (행 번호: 사유)
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.domain.video.DifficultyLevel;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 일괄 등록 한 행 (NDJSON 한 줄 또는 CSV 한 레코드, CSV 헤더는 필드 이름과 같게)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoImportRow {
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 200, message = "제목은 200자 이하여야 합니다")
+    private String title;
+
+    @Size(max = 1000, message = "설명은 1000자 이하여야 합니다")
+    private String description;
+
+    @NotBlank(message = "비디오 URL은 필수입니다")
+    @Size(max = 500, message = "비디오 URL은 500자 이하여야 합니다")
+    private String videoUrl;
+
+    @Size(max = 500, message = "썸네일 URL은 500자 이하여야 합니다")
+    private String thumbnailUrl;
+
+    @NotNull(message = "재생 시간은 필수입니다")
+    @Min(value = 1, message = "재생 시간은 1초 이상이어야 합니다")
+    private Integer duration;
+
+    @NotNull(message = "난이도는 필수입니다")
+    private DifficultyLevel difficultyLevel;
+
+    @NotBlank(message = "카테고리 slug는 필수입니다")
+    private String categorySlug;
+
+    @NotBlank(message = "강사 이메일은 필수입니다")
+    @Email(message = "강사 이메일 형식이 올바르지 않습니다")
+    private String instructorEmail;
+}
\ No newline at end of file
@@ -7,11 +7,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class VideoResponse {
 
     private Long id;
@@ -27,6 +28,43 @@ public class VideoResponse {
     private Long likesCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Map<Integer, String> thumbnails;  // 너비(px) -> 썸네일 URL
+
+    // VideoRepository 조회 전용 쿼리(JPQL constructor expression)에서 사용
+    public VideoResponse(Long id, String title, String description, String videoUrl, String thumbnailUrl,
+                         Integer duration, DifficultyLevel difficultyLevel,
+                         Long categoryId, String categoryName, String categorySlug, String categoryDescription,
+                         String categoryIcon, LocalDateTime categoryCreatedAt, LocalDateTime categoryUpdatedAt,
+                         Long instructorId, String instructorUsername, String instructorEmail,
+                         String instructorProfileImage,
+                         Long viewsCount, Long likesCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.videoUrl = videoUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.duration = duration;
+        this.difficultyLevel = difficultyLevel;
+        this.category = CategoryResponse.builder()
+                .id(categoryId)
+                .name(categoryName)
+                .slug(categorySlug)
+                .description(categoryDescription)
+                .icon(categoryIcon)
+                .createdAt(categoryCreatedAt)
+                .updatedAt(categoryUpdatedAt)
+                .build();
+        this.instructor = InstructorInfo.builder()
+                .id(instructorId)
+                .username(instructorUsername)
+                .email(instructorEmail)
+                .profileImage(instructorProfileImage)
+                .build();
+        this.viewsCount = viewsCount;
+        this.likesCount = likesCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 
     // 강사 정보 (간단한 정보만)
     @Data
@@ -0,0 +1,21 @@
+package com.learnsnap.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 페이징 응답 (전체 개수 없이 다음 커서만 제공)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VideoSliceResponse {
+
+    private List<VideoResponse> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,49 @@
+package com.learnsnap.dto;
+
+import com.learnsnap.exception.UnsupportedSortException;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+// 목록/커서(keyset) 페이징에서 허용하는 정렬 기준 (모두 (컬럼, id) 인덱스가 있는 컬럼)
+public enum VideoSortKey {
+    CREATED_AT("createdAt", LocalDateTime::parse, VideoResponse::getCreatedAt),
+    VIEWS_COUNT("viewsCount", Long::valueOf, VideoResponse::getViewsCount),
+    LIKES_COUNT("likesCount", Long::valueOf, VideoResponse::getLikesCount),
+    // 검색 관련도 점수 (검색 인덱스에서만 사용, 컬럼이 아님)
+    RELEVANCE("relevance", Long::valueOf, null);
+
+    @Getter
+    private final String property;
+    private final Function<String, Comparable<?>> parser;
+    private final Function<VideoResponse, Object> extractor;
+
+    VideoSortKey(String property,
+                 Function<String, Comparable<?>> parser,
+                 Function<VideoResponse, Object> extractor) {
+        this.property = property;
+        this.parser = parser;
+        this.extractor = extractor;
+    }
+
+    // 커서에 담긴 문자열 값을 정렬 컬럼 타입으로 변환
+    public Comparable<?> parseValue(String value) {
+        return parser.apply(value);
+    }
+
+    // 응답의 정렬 컬럼 값을 커서용 문자열로 변환
+    public String formatValue(VideoResponse response) {
+        return String.valueOf(extractor.apply(response));
+    }
+
+    // 요청 파라미터(sort)로 정렬 기준 찾기 - 목록에 없는 컬럼은 거부
+    public static VideoSortKey fromProperty(String property) {
+        for (VideoSortKey key : values()) {
+            if (key != RELEVANCE && key.property.equals(property)) {
+                return key;
+            }
+        }
+        throw new UnsupportedSortException("지원하지 않는 정렬 기준입니다: " + property);
+    }
+}
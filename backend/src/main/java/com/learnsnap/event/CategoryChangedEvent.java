@@ -0,0 +1,12 @@
+package com.learnsnap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 카테고리 생성/수정/삭제 이벤트 (커밋 후 응답 버전 갱신용)
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+}
\ No newline at end of file
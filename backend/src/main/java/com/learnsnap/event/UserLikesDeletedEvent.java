@@ -0,0 +1,15 @@
+package com.learnsnap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 사용자 삭제로 지워진 좋아요 (커밋 후 비트맵/좋아요 수에 반영)
+@Getter
+@AllArgsConstructor
+public class UserLikesDeletedEvent {
+
+    private final Long userId;
+    private final List<Long> videoIds;
+}
\ No newline at end of file
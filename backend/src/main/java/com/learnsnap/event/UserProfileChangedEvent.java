@@ -0,0 +1,12 @@
+package com.learnsnap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 프로필(이름/프로필 이미지) 변경 이벤트 - 비디오 응답의 강사 정보가 바뀐다
+@Getter
+@AllArgsConstructor
+public class UserProfileChangedEvent {
+
+    private final Long userId;
+}
\ No newline at end of file
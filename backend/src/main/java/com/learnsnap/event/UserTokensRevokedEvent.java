@@ -0,0 +1,16 @@
+package com.learnsnap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비밀번호/권한 변경, 사용자 삭제 이벤트 - tokenVersion 미만으로 발급된 토큰은 더 이상 유효하지 않다
+@Getter
+@AllArgsConstructor
+public class UserTokensRevokedEvent {
+
+    // 삭제된 사용자 (모든 토큰 무효)
+    public static final int DELETED = Integer.MAX_VALUE;
+
+    private final Long userId;
+    private final int tokenVersion;
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.learnsnap.event;
+
+import com.learnsnap.dto.VideoResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비디오 생성/수정/삭제 이벤트 (커밋 후 메모리 인덱스/캐시 갱신용)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VideoChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long videoId;
+    private final VideoResponse video;  // 삭제 이벤트에서는 null
+
+    public static VideoChangedEvent created(VideoResponse video) {
+        return new VideoChangedEvent(Type.CREATED, video.getId(), video);
+    }
+
+    public static VideoChangedEvent updated(VideoResponse video) {
+        return new VideoChangedEvent(Type.UPDATED, video.getId(), video);
+    }
+
+    public static VideoChangedEvent deleted(Long videoId) {
+        return new VideoChangedEvent(Type.DELETED, videoId, null);
+    }
+}
@@ -0,0 +1,21 @@
+package com.learnsnap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// 조회수/좋아요 수 버퍼 반영 완료 이벤트 (커밋 후, 비디오 ID -> 반영 직후의 DB 값)
+// 스냅샷을 오래 들고 있는 메모리 구조가 DB 값을 따라잡는 데 쓴다
+@Getter
+@AllArgsConstructor
+public class VideoCountersFlushedEvent {
+
+    public enum Type {
+        VIEWS,
+        LIKES
+    }
+
+    private final Type type;
+    private final Map<Long, Long> persisted;
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.learnsnap.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비디오 일괄 등록 완료 이벤트 (행마다 VideoChangedEvent를 보내지 않으므로 메모리 구조는 한 번에 다시 맞춘다)
+// 등록된 행의 ID는 firstId..lastId 범위 안에 있다 (범위 안의 다른 비디오가 섞일 수 있으므로 받는 쪽은 중복 반영에 안전해야 한다)
+@Getter
+@AllArgsConstructor
+public class VideosImportedEvent {
+
+    private final long importedCount;
+    private final long firstId;
+    private final long lastId;
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class InvalidLimitException extends RuntimeException {
+    public InvalidLimitException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
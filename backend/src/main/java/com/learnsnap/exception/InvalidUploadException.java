@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class InvalidUploadException extends RuntimeException {
+    public InvalidUploadException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class ThumbnailNotFoundException extends RuntimeException {
+    public ThumbnailNotFoundException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
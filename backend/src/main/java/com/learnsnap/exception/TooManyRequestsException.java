@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
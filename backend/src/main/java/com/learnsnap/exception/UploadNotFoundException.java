@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class UploadNotFoundException extends RuntimeException {
+    public UploadNotFoundException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class UserHasVideosException extends RuntimeException {
+    public UserHasVideosException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
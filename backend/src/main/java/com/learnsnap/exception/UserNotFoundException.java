@@ -0,0 +1,7 @@
+package com.learnsnap.exception;
+
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
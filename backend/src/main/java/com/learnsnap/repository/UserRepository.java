@@ -1,9 +1,16 @@
 package com.learnsnap.repository;
 
 import com.learnsnap.domain.user.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +22,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 이메일 중복 체크
     boolean existsByEmail(String email);
 
-    // 사용자명으로 사용자 찾기 (선택사항)
-    Optional<User> findByUsername(String username);
+    // 토큰 버전이 바뀐 사용자만 조회
+    @Query("select u.id as id, u.tokenVersion as tokenVersion from User u where u.tokenVersion > 0")
+    List<UserTokenVersion> findChangedTokenVersions();
+
+    // 로그인 시 더 높은 cost로 다시 해시한 비밀번호 저장 (그사이 비밀번호가 바뀌었으면 무시)
+    // 비밀번호 자체는 같으므로 토큰 버전은 올리지 않는다
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // 비밀번호 변경 - 토큰 버전을 함께 올린다 (확인한 뒤 그사이 비밀번호가 바뀌었으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash, u.tokenVersion = u.tokenVersion + 1 "
+            + "where u.id = :id and u.password = :oldHash")
+    int changePassword(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    // 사용자 삭제 - 정리가 끝날 때까지 행을 잠근다 (그사이 들어온 좋아요 INSERT는 외래 키 확인에서 기다린다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findForUpdateById(@Param("id") Long id);
+
+    // 삭제된 사용자 기록 (재시작 후에도 남은 토큰을 거절하도록)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into deleted_users (user_id, deleted_at) values (:id, now()) "
+            + "on conflict (user_id) do nothing", nativeQuery = true)
+    int insertDeletedUser(@Param("id") Long id);
+
+    @Query(value = "select user_id from deleted_users", nativeQuery = true)
+    List<Long> findDeletedUserIds();
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.learnsnap.repository;
+
+// 토큰 버전 캐시 초기화용 projection
+public interface UserTokenVersion {
+
+    Long getId();
+
+    Integer getTokenVersion();
+}
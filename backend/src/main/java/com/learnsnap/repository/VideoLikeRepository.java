@@ -0,0 +1,42 @@
+package com.learnsnap.repository;
+
+import com.learnsnap.domain.video.VideoLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface VideoLikeRepository extends JpaRepository<VideoLike, Long> {
+
+    // 좋아요 추가 (이미 있으면 무시) - 추가된 행 수 반환 (0 또는 1)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into video_likes (video_id, user_id, created_at) values (:videoId, :userId, now()) "
+            + "on conflict (video_id, user_id) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("videoId") Long videoId, @Param("userId") Long userId);
+
+    // 좋아요 취소 - 삭제된 행 수 반환 (0 또는 1)
+    @Transactional
+    @Modifying
+    @Query("delete from VideoLike l where l.video.id = :videoId and l.user.id = :userId")
+    int deleteByVideoIdAndUserId(@Param("videoId") Long videoId, @Param("userId") Long userId);
+
+    // 비디오 삭제 전 좋아요 정리
+    @Transactional
+    @Modifying
+    @Query("delete from VideoLike l where l.video.id = :videoId")
+    int deleteAllByVideoId(@Param("videoId") Long videoId);
+
+    // 좋아요한 사용자 ID 목록 (비트맵 적재용)
+    @Query("select l.user.id from VideoLike l where l.video.id = :videoId")
+    List<Long> findUserIdsByVideoId(@Param("videoId") Long videoId);
+
+    // 사용자가 좋아요한 비디오 ID 목록 (사용자 삭제 전 정리용)
+    @Query("select l.video.id from VideoLike l where l.user.id = :userId")
+    List<Long> findVideoIdsByUserId(@Param("userId") Long userId);
+}
\ No newline at end of file
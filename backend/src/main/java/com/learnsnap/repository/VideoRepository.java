@@ -1,48 +1,99 @@
 package com.learnsnap.repository;
 
-import com.learnsnap.domain.category.Category;
-import com.learnsnap.domain.user.User;
 import com.learnsnap.domain.video.DifficultyLevel;
 import com.learnsnap.domain.video.Video;
+import com.learnsnap.dto.VideoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface VideoRepository extends JpaRepository<Video, Long> {
+public interface VideoRepository extends JpaRepository<Video, Long>, VideoRepositoryCustom {
 
-    // 카테고리로 조회
-    Page<Video> findByCategory(Category category, Pageable pageable);
+    // VideoResponse 조회용 select 절 (카테고리/강사를 join으로 한 번에, 필요한 컬럼만)
+    String VIDEO_RESPONSE_SELECT = "select new com.learnsnap.dto.VideoResponse("
+            + "v.id, v.title, v.description, v.videoUrl, v.thumbnailUrl, v.duration, v.difficultyLevel, "
+            + "c.id, c.name, c.slug, c.description, c.icon, c.createdAt, c.updatedAt, "
+            + "i.id, i.username, i.email, i.profileImage, "
+            + "v.viewsCount, v.likesCount, v.createdAt, v.updatedAt) "
+            + "from Video v join v.category c join v.instructor i ";
 
-    // 카테고리 ID로 조회
-    Page<Video> findByCategoryId(Long categoryId, Pageable pageable);
+    // 강사의 비디오가 있는지 (사용자 삭제 전 확인)
+    boolean existsByInstructorId(Long instructorId);
 
-    // 강사로 조회
-    Page<Video> findByInstructor(User instructor, Pageable pageable);
+    // DB에 저장된 조회수만 조회 (엔티티 로딩 없이)
+    @Query("select v.viewsCount from Video v where v.id = :id")
+    Optional<Long> findViewsCountById(@Param("id") Long id);
 
-    // 강사 ID로 조회
-    Page<Video> findByInstructorId(Long instructorId, Pageable pageable);
+    // 스트리밍할 파일 경로 조회
+    @Query("select v.videoUrl from Video v where v.id = :id")
+    Optional<String> findVideoUrlById(@Param("id") Long id);
+
+    // 썸네일 원본 경로 조회
+    @Query("select v.thumbnailUrl from Video v where v.id = :id")
+    Optional<String> findThumbnailUrlById(@Param("id") Long id);
 
-    // 난이도로 조회
-    Page<Video> findByDifficultyLevel(DifficultyLevel difficultyLevel, Pageable pageable);
+    // DB에 저장된 좋아요 수만 조회
+    @Query("select v.likesCount from Video v where v.id = :id")
+    Optional<Long> findLikesCountById(@Param("id") Long id);
 
-    // 제목으로 검색
-    Page<Video> findByTitleContaining(String keyword, Pageable pageable);
+    // ===== VideoResponse 조회 전용 (페이지당 쿼리 1번) =====
 
-    // 제목 또는 설명으로 검색
-    Page<Video> findByTitleContainingOrDescriptionContaining(
-            String titleKeyword, String descKeyword, Pageable pageable);
+    // ID로 조회
+    @Query(VIDEO_RESPONSE_SELECT + "where v.id = :id")
+    Optional<VideoResponse> findResponseById(@Param("id") Long id);
+
+    // 카테고리 ID로 조회
+    @Query(value = VIDEO_RESPONSE_SELECT + "where v.category.id = :categoryId",
+            countQuery = "select count(v) from Video v where v.category.id = :categoryId")
+    Page<VideoResponse> findResponsesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    // 강사 ID로 조회
+    @Query(value = VIDEO_RESPONSE_SELECT + "where v.instructor.id = :instructorId",
+            countQuery = "select count(v) from Video v where v.instructor.id = :instructorId")
+    Page<VideoResponse> findResponsesByInstructorId(@Param("instructorId") Long instructorId, Pageable pageable);
 
     // 카테고리와 난이도로 조회
-    Page<Video> findByCategoryIdAndDifficultyLevel(
-            Long categoryId, DifficultyLevel difficultyLevel, Pageable pageable);
+    @Query(value = VIDEO_RESPONSE_SELECT
+            + "where v.category.id = :categoryId and v.difficultyLevel = :difficultyLevel",
+            countQuery = "select count(v) from Video v "
+                    + "where v.category.id = :categoryId and v.difficultyLevel = :difficultyLevel")
+    Page<VideoResponse> findResponsesByCategoryIdAndDifficultyLevel(
+            @Param("categoryId") Long categoryId,
+            @Param("difficultyLevel") DifficultyLevel difficultyLevel,
+            Pageable pageable);
+
+    // 최신순
+    @Query(VIDEO_RESPONSE_SELECT + "order by v.createdAt desc")
+    List<VideoResponse> findRecentResponses(Pageable pageable);
+
+    // ID 목록으로 조회 (순서는 호출하는 쪽에서 맞춘다)
+    @Query(VIDEO_RESPONSE_SELECT + "where v.id in :ids")
+    List<VideoResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 인덱스 구축용
+    @Query("select v.id as id, v.title as title, v.description as description from Video v")
+    List<VideoSearchDocument> findAllSearchDocuments();
+
+    // 일괄 등록된 ID 범위만 색인
+    @Query("select v.id as id, v.title as title, v.description as description from Video v "
+            + "where v.id between :from and :to")
+    List<VideoSearchDocument> findSearchDocumentsByIdBetween(@Param("from") long from, @Param("to") long to);
 
-    // 조회수 많은 순 (인기 비디오)
-    List<Video> findTop10ByOrderByViewsCountDesc();
+    // 인기 순위 초기화용
+    @Query("select v.id as id, v.category.id as categoryId, v.viewsCount as viewsCount, "
+            + "v.createdAt as createdAt from Video v")
+    List<VideoTrendingSeed> findAllTrendingSeeds();
 
-    // 최신 비디오
-    List<Video> findTop10ByOrderByCreatedAtDesc();
+    // 일괄 등록된 ID 범위만 추가
+    @Query("select v.id as id, v.category.id as categoryId, v.viewsCount as viewsCount, "
+            + "v.createdAt as createdAt from Video v where v.id between :from and :to")
+    List<VideoTrendingSeed> findTrendingSeedsByIdBetween(@Param("from") long from, @Param("to") long to);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.learnsnap.repository;
+
+import com.learnsnap.dto.VideoCursor;
+import com.learnsnap.dto.VideoFilter;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.dto.VideoSortKey;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+public interface VideoRepositoryCustom {
+
+    // 조건을 조합한 목록 조회 (정렬 컬럼 + id 순, 필요할 때만 count 쿼리)
+    Page<VideoResponse> findResponses(VideoFilter filter, VideoSortKey sortKey,
+                                      Sort.Direction direction, Pageable pageable);
+
+    // 커서 이후의 비디오 조회 (keyset, count 쿼리 없음)
+    Slice<VideoResponse> findResponsesAfter(VideoFilter filter, VideoSortKey sortKey,
+                                            Sort.Direction direction, VideoCursor cursor, int size);
+}
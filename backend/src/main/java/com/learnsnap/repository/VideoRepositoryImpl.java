@@ -0,0 +1,163 @@
+package com.learnsnap.repository;
+
+import com.learnsnap.domain.category.Category;
+import com.learnsnap.domain.user.User;
+import com.learnsnap.domain.video.Video;
+import com.learnsnap.dto.VideoCursor;
+import com.learnsnap.dto.VideoFilter;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.dto.VideoSortKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// VideoRepository의 조건 조합 목록 / 커서 페이징 구현 (seek 쿼리)
+public class VideoRepositoryImpl implements VideoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<VideoResponse> findResponses(VideoFilter filter, VideoSortKey sortKey,
+                                             Sort.Direction direction, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VideoResponse> query = cb.createQuery(VideoResponse.class);
+        Root<Video> v = query.from(Video.class);
+        selectResponse(cb, query, v);
+        query.where(filterPredicates(cb, v, filter).toArray(new Predicate[0]));
+        orderBy(cb, query, v, sortKey, direction);
+
+        List<VideoResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 마지막 페이지처럼 결과 수로 전체 개수를 알 수 있으면 count 쿼리를 생략한다
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cb, filter));
+    }
+
+    @Override
+    public Slice<VideoResponse> findResponsesAfter(VideoFilter filter, VideoSortKey sortKey,
+                                                   Sort.Direction direction, VideoCursor cursor, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VideoResponse> query = cb.createQuery(VideoResponse.class);
+        Root<Video> v = query.from(Video.class);
+        selectResponse(cb, query, v);
+
+        List<Predicate> predicates = filterPredicates(cb, v, filter);
+        if (cursor != null) {
+            predicates.add(seekPredicate(cb, v, cursor));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        orderBy(cb, query, v, sortKey, direction);
+
+        // 다음 페이지 존재 여부는 한 건 더 조회해서 판단
+        List<VideoResponse> content = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = new ArrayList<>(content.subList(0, size));
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    // VideoResponse 생성자 프로젝션 (카테고리/강사는 조인해서 한 번에)
+    private void selectResponse(CriteriaBuilder cb, CriteriaQuery<VideoResponse> query, Root<Video> v) {
+        Join<Video, Category> c = v.join("category");
+        Join<Video, User> i = v.join("instructor");
+
+        query.select(cb.construct(VideoResponse.class,
+                v.get("id"), v.get("title"), v.get("description"), v.get("videoUrl"), v.get("thumbnailUrl"),
+                v.get("duration"), v.get("difficultyLevel"),
+                c.get("id"), c.get("name"), c.get("slug"), c.get("description"), c.get("icon"),
+                c.get("createdAt"), c.get("updatedAt"),
+                i.get("id"), i.get("username"), i.get("email"), i.get("profileImage"),
+                v.get("viewsCount"), v.get("likesCount"), v.get("createdAt"), v.get("updatedAt")));
+    }
+
+    // 정렬 컬럼 + id로 순서를 고정해야 같은 값이 여러 개여도 건너뛰거나 중복되지 않는다
+    private void orderBy(CriteriaBuilder cb, CriteriaQuery<?> query, Root<Video> v,
+                         VideoSortKey sortKey, Sort.Direction direction) {
+        Path<?> key = v.get(sortKey.getProperty());
+        Path<Long> id = v.get("id");
+        if (direction == Sort.Direction.DESC) {
+            query.orderBy(cb.desc(key), cb.desc(id));
+        } else {
+            query.orderBy(cb.asc(key), cb.asc(id));
+        }
+    }
+
+    // count는 조인 없이 videos 테이블만 (카테고리/강사 조건은 FK 컬럼 비교)
+    private long count(CriteriaBuilder cb, VideoFilter filter) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Video> v = query.from(Video.class);
+        query.select(cb.count(v));
+        query.where(filterPredicates(cb, v, filter).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Video> v, VideoFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getCategoryId() != null) {
+            predicates.add(cb.equal(v.get("category").get("id"), filter.getCategoryId()));
+        }
+        if (filter.getDifficulty() != null) {
+            predicates.add(cb.equal(v.get("difficultyLevel"), filter.getDifficulty()));
+        }
+        if (filter.getInstructorId() != null) {
+            predicates.add(cb.equal(v.get("instructor").get("id"), filter.getInstructorId()));
+        }
+        if (filter.getMinDuration() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(v.get("duration"), filter.getMinDuration()));
+        }
+        if (filter.getMaxDuration() != null) {
+            predicates.add(cb.lessThanOrEqualTo(v.get("duration"), filter.getMaxDuration()));
+        }
+        // 앞뒤가 %인 LIKE는 pg_trgm GIN 인덱스(V6)로 후보를 찾는다 (목록과 count 모두)
+        if (filter.getKeyword() != null && !filter.getKeyword().isBlank()) {
+            String pattern = "%" + escapeLike(filter.getKeyword()) + "%";
+            predicates.add(cb.or(
+                    cb.like(v.<String>get("title"), pattern, '\\'),
+                    cb.like(v.<String>get("description"), pattern, '\\')));
+        }
+        return predicates;
+    }
+
+    // (정렬 값, id)가 커서보다 뒤에 있는 행만
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Video> v, VideoCursor cursor) {
+        Path key = v.get(cursor.getSortKey().getProperty());
+        Comparable value = cursor.getTypedValue();
+        Path<Long> id = v.get("id");
+
+        if (cursor.getDirection() == Sort.Direction.DESC) {
+            return cb.or(
+                    cb.lessThan(key, value),
+                    cb.and(cb.equal(key, value), cb.lessThan(id, cursor.getLastId())));
+        }
+        return cb.or(
+                cb.greaterThan(key, value),
+                cb.and(cb.equal(key, value), cb.greaterThan(id, cursor.getLastId())));
+    }
+
+    private String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,11 @@
+package com.learnsnap.repository;
+
+// 검색 인덱스 구축용 projection (id, 제목, 설명만)
+public interface VideoSearchDocument {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+}
@@ -0,0 +1,15 @@
+package com.learnsnap.repository;
+
+import java.time.LocalDateTime;
+
+// 인기 순위 초기화용 projection
+public interface VideoTrendingSeed {
+
+    Long getId();
+
+    Long getCategoryId();
+
+    Long getViewsCount();
+
+    LocalDateTime getCreatedAt();
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.learnsnap.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// JWT claim으로 만든 인증 주체 (DB 조회 없이 생성)
+// getName()은 이메일이므로 기존의 authentication.getName() 사용처는 그대로 동작한다
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+
+    private final Long id;
+    private final String email;
+    private final String role;
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
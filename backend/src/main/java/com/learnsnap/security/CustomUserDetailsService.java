@@ -1,5 +1,6 @@
 package com.learnsnap.security;
 
+import com.learnsnap.config.ReplicaRoutingDataSource;
 import com.learnsnap.domain.user.User;
 import com.learnsnap.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +20,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // 이메일로 사용자 찾기
-        User user = userRepository.findByEmail(email)
+        // 이메일로 사용자 찾기 (자격 증명은 복제본이 아닌 primary에서)
+        User user = ReplicaRoutingDataSource.onPrimary(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
         // Spring Security의 UserDetails로 변환
@@ -1,27 +1,31 @@
 package com.learnsnap.security;
 
 import com.learnsnap.util.JwtUtil;
+import com.learnsnap.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
+// 디버그 로그는 DEBUG 레벨에서만 출력 (logging.level.com.learnsnap.security=DEBUG)
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final TokenVersionStore tokenVersionStore;
 
     @Override
     protected void doFilterInternal(
@@ -34,34 +38,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         final String jwt;
         final String userEmail;
 
-        System.out.println("=== JWT Filter 실행 ===");
-        System.out.println("Authorization 헤더: " + authHeader);
-
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            System.out.println("토큰이 없거나 형식이 잘못됨");
+            log.debug("토큰이 없거나 형식이 잘못됨: {} {}", request.getMethod(), request.getRequestURI());
             filterChain.doFilter(request, response);
             return;
         }
 
         jwt = authHeader.substring(7);
-        System.out.println("추출된 JWT: " + jwt.substring(0, Math.min(jwt.length(), 20)) + "...");
         
         try {
-            userEmail = jwtUtil.extractEmail(jwt);
-            System.out.println("추출된 이메일: " + userEmail);
+            // 서명/만료 검증은 여기서 한 번만 (결과는 JwtUtil이 캐시)
+            VerifiedToken verifiedToken = jwtUtil.verify(jwt);
+            userEmail = verifiedToken.getEmail();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                System.out.println("사용자 찾음: " + userDetails.getUsername());
 
-                if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                    System.out.println("토큰 검증 성공!");
-                    
+                // 사용자 정보는 토큰 claim에서 가져온다 (DB 조회 없음)
+                Long userId = verifiedToken.getUserId();
+                String role = verifiedToken.getRole();
+                Integer tokenVersion = verifiedToken.getTokenVersion();
+
+                if (userId == null || role == null || tokenVersion == null) {
+                    // 사용자 정보가 없는 이전 형식의 토큰 -> 다시 로그인 필요
+                    log.debug("토큰에 사용자 정보가 없음: {}", userEmail);
+                } else if (!tokenVersionStore.isCurrent(userId, tokenVersion)) {
+                    // 비밀번호/권한 변경 이전에 발급된 토큰
+                    log.debug("폐기된 토큰: userId={}, version={}", userId, tokenVersion);
+                } else {
+                    AuthenticatedUser principal = new AuthenticatedUser(userId, userEmail, role);
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
+                            principal,
                             null,
-                            userDetails.getAuthorities()
+                            Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
                     );
                     
                     authToken.setDetails(
@@ -69,14 +77,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
                     
                     SecurityContextHolder.getContext().setAuthentication(authToken);
-                    System.out.println("인증 완료!");
-                } else {
-                    System.out.println("토큰 검증 실패!");
+                    log.debug("인증 완료: userId={}, role={}", userId, role);
                 }
             }
         } catch (Exception e) {
-            System.err.println("JWT 인증 실패: " + e.getMessage());
-            e.printStackTrace();
+            log.debug("JWT 인증 실패: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
@@ -0,0 +1,113 @@
+package com.learnsnap.security;
+
+import com.learnsnap.exception.ErrorResponse;
+import com.learnsnap.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 경로별 요청 제한 (SecurityConfig에서 규칙을 정하고 JwtAuthenticationFilter보다 앞에 둔다)
+// 한 요청에 여러 규칙이 맞으면 처음 맞는 규칙 하나만 적용
+// IP 기준 키는 getRemoteAddr() - 프록시 뒤에서는 server.forward-headers-strategy와 신뢰할 프록시 목록이 설정되어 있어야
+// 클라이언트 주소가 된다 (learnsnap.properties 참고, 설정이 없으면 모든 요청이 프록시 주소 하나로 묶인다)
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+    private final JsonMapper jsonMapper;
+    private final List<RateLimitRule> rules;
+    // 규칙 이름 -> 거절 카운터 (거절할 때마다 등록/조회하지 않도록 미리 만든다)
+    private final Map<String, Counter> rejectedCounters;
+
+    public RateLimitFilter(RateLimiter rateLimiter, JwtUtil jwtUtil, JsonMapper jsonMapper,
+                           MeterRegistry meterRegistry, List<RateLimitRule> rules) {
+        this.rateLimiter = rateLimiter;
+        this.jwtUtil = jwtUtil;
+        this.jsonMapper = jsonMapper;
+        this.rules = List.copyOf(rules);
+        this.rejectedCounters = this.rules.stream()
+                .map(RateLimitRule::getName)
+                .distinct()
+                .collect(Collectors.toUnmodifiableMap(Function.identity(),
+                        name -> Counter.builder("learnsnap.ratelimit.rejected")
+                                .description("요청 제한으로 거절된 요청 수")
+                                .tag("rule", name)
+                                .register(meterRegistry)));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(request.getMethod(), path)) {
+                long waitNanos = rateLimiter.tryAcquire(rule, key(rule, request));
+                if (waitNanos > 0) {
+                    reject(rule, response, waitNanos);
+                    return;
+                }
+                break;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String key(RateLimitRule rule, HttpServletRequest request) {
+        if (rule.getKeyType() == RateLimitRule.KeyType.USER_OR_IP) {
+            String authHeader = request.getHeader("Authorization");
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                try {
+                    // 검증 결과는 JwtUtil이 캐시하므로 뒤의 JwtAuthenticationFilter에서 다시 파싱하지 않는다
+                    Long userId = jwtUtil.verify(authHeader.substring(7)).getUserId();
+                    if (userId != null) {
+                        return "user:" + userId;
+                    }
+                } catch (Exception e) {
+                    log.debug("요청 제한 키: 토큰 검증 실패, IP 기준으로 제한 ({})", e.getMessage());
+                }
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(RateLimitRule rule, HttpServletResponse response, long waitNanos) throws IOException {
+        rejectedCounters.get(rule.getName()).increment();
+
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("요청이 너무 많습니다. 잠시 후 다시 시도해주세요")
+                .build();
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(jsonMapper.writeValueAsString(error));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.learnsnap.security;
+
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+
+// 경로별 요청 제한 규칙 (period 동안 limit회, 쉬고 있었다면 limit회까지 한꺼번에 허용)
+@Getter
+public class RateLimitRule {
+
+    // 요청을 누구 기준으로 셀지
+    public enum KeyType {
+        IP,            // 클라이언트 IP
+        USER_OR_IP     // 유효한 토큰이 있으면 사용자 ID, 없으면 IP
+    }
+
+    private final String name;
+    private final HttpMethod method;
+    private final PathPattern pattern;
+    private final KeyType keyType;
+    private final int limit;
+    private final Duration period;
+
+    // 토큰 하나가 다시 채워지는 간격과, 그만큼 앞당겨 쓸 수 있는 여유 (GCRA 표현)
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private RateLimitRule(String name, HttpMethod method, String pattern, KeyType keyType,
+                          int limit, Duration period) {
+        if (limit <= 0 || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("잘못된 요청 제한 설정: " + name);
+        }
+        this.name = name;
+        this.method = method;
+        this.pattern = PathPatternParser.defaultInstance.parse(pattern);
+        this.keyType = keyType;
+        this.limit = limit;
+        this.period = period;
+        this.emissionIntervalNanos = period.toNanos() / limit;
+        this.burstToleranceNanos = period.toNanos() - emissionIntervalNanos;
+    }
+
+    public static RateLimitRule perIp(String name, HttpMethod method, String pattern,
+                                      int limit, Duration period) {
+        return new RateLimitRule(name, method, pattern, KeyType.IP, limit, period);
+    }
+
+    public static RateLimitRule perUserOrIp(String name, HttpMethod method, String pattern,
+                                            int limit, Duration period) {
+        return new RateLimitRule(name, method, pattern, KeyType.USER_OR_IP, limit, period);
+    }
+
+    public boolean matches(String method, String path) {
+        return this.method.matches(method) && pattern.matches(PathContainer.parsePath(path));
+    }
+}
\ No newline at end of file
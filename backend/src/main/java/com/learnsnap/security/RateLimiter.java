@@ -0,0 +1,176 @@
+package com.learnsnap.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 키(규칙 + IP/사용자)별 토큰 버킷
+// 버킷 상태는 "다음 토큰이 생기는 시각"(GCRA의 TAT) 하나뿐이라 AtomicLong CAS만으로 갱신한다 (락 없음)
+// 키는 해시로 나눈 stripe에 저장하고, stripe마다 키 수 상한과 타임 휠을 둔다
+//  - 상한을 넘는 새 키는 규칙별 overflow 버킷 하나를 같이 쓴다 (메모리 상한 유지, 대신 그 키들끼리 함께 제한)
+//  - 버킷이 가득 찬 상태(TAT <= 현재)가 되면 지워도 동작이 같으므로, 타임 휠이 그 시각에 확인해서 제거한다
+@Component
+public class RateLimiter {
+
+    static final long TICK_MILLIS = 1000;
+    private static final long TICK_NANOS = TICK_MILLIS * 1_000_000;
+    private static final int WHEEL_SLOTS = 64;  // 64초 범위, 넘는 버킷은 한 바퀴 돌고 다시 확인
+
+    private static final String OVERFLOW_KEY = "*overflow*";
+
+    private final Stripe[] stripes;
+    private final int maxKeysPerStripe;
+    private final long origin = System.nanoTime();
+    private long lastTick;  // 스케줄러 스레드에서만 사용
+
+    public RateLimiter(MeterRegistry meterRegistry,
+                       @Value("${learnsnap.rate-limit.stripes:16}") int stripeCount,
+                       @Value("${learnsnap.rate-limit.max-keys:100000}") int maxKeys) {
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;  // 2의 거듭제곱으로
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxKeysPerStripe = Math.max(1, maxKeys / size);
+
+        Gauge.builder("learnsnap.ratelimit.keys", this, RateLimiter::size)
+                .description("요청 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    // 허용이면 0, 거절이면 다음 요청이 가능해질 때까지 남은 시간(ns)
+    public long tryAcquire(RateLimitRule rule, String key) {
+        return tryAcquire(rule, rule.getName() + ':' + key, false);
+    }
+
+    private long tryAcquire(RateLimitRule rule, String bucketKey, boolean overflow) {
+        Stripe stripe = stripeFor(bucketKey);
+        while (true) {
+            long now = now();
+            Bucket bucket = stripe.buckets.get(bucketKey);
+            if (bucket == null) {
+                if (!overflow && stripe.buckets.size() >= maxKeysPerStripe) {
+                    return tryAcquire(rule, rule.getName() + ':' + OVERFLOW_KEY, true);
+                }
+                Bucket created = new Bucket(bucketKey);
+                Bucket existing = stripe.buckets.putIfAbsent(bucketKey, created);
+                if (existing == null) {
+                    stripe.schedule(created, now + rule.getPeriod().toNanos());
+                    bucket = created;
+                } else {
+                    bucket = existing;
+                }
+            }
+
+            long wait = bucket.acquire(rule, now);
+            if (wait != Bucket.EVICTED) {
+                return wait;
+            }
+            // 방금 타임 휠이 제거한 버킷 -> 다시 찾거나 새로 만든다
+        }
+    }
+
+    // 지난 틱들의 슬롯을 확인해서 가득 찬 버킷 제거, 아직이면 다시 확인할 시각의 슬롯으로
+    @Scheduled(fixedRate = TICK_MILLIS)
+    public void advance() {
+        long now = now();
+        long currentTick = now / TICK_NANOS;
+        long from = Math.max(lastTick + 1, currentTick - WHEEL_SLOTS + 1);
+        for (long tick = from; tick <= currentTick; tick++) {
+            int slot = (int) (tick % WHEEL_SLOTS);
+            for (Stripe stripe : stripes) {
+                stripe.expire(slot, now);
+            }
+        }
+        lastTick = currentTick;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.buckets.size();
+        }
+        return size;
+    }
+
+    // 테스트에서 시각을 바꿔 끼우도록 package-private
+    long now() {
+        return System.nanoTime() - origin;
+    }
+
+    private Stripe stripeFor(String bucketKey) {
+        int hash = bucketKey.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe {
+        private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicReferenceArray<ConcurrentLinkedQueue<Bucket>> wheel =
+                new AtomicReferenceArray<>(WHEEL_SLOTS);
+
+        private Stripe() {
+            for (int i = 0; i < WHEEL_SLOTS; i++) {
+                wheel.set(i, new ConcurrentLinkedQueue<>());
+            }
+        }
+
+        private void schedule(Bucket bucket, long at) {
+            wheel.get((int) ((at / TICK_NANOS) % WHEEL_SLOTS)).add(bucket);
+        }
+
+        // 슬롯의 큐를 새 큐로 바꾼 뒤 처리 (다시 넣는 버킷이 같은 슬롯으로 가도 이번 처리와 섞이지 않게)
+        private void expire(int slot, long now) {
+            ConcurrentLinkedQueue<Bucket> due = wheel.getAndSet(slot, new ConcurrentLinkedQueue<>());
+            Bucket bucket;
+            while ((bucket = due.poll()) != null) {
+                if (bucket.evictIfFull(now)) {
+                    buckets.remove(bucket.key, bucket);
+                } else {
+                    schedule(bucket, Math.max(bucket.tat.get(), now + TICK_NANOS));
+                }
+            }
+        }
+    }
+
+    private static final class Bucket {
+        // 제거된 버킷 표시 (tryAcquire는 이 값을 보면 다시 찾는다)
+        private static final long EVICTED = Long.MIN_VALUE;
+
+        private final String key;
+        // 다음 토큰이 생기는 이론상 시각 (TAT <= now면 버킷이 가득 찬 상태)
+        private final AtomicLong tat = new AtomicLong();
+
+        private Bucket(String key) {
+            this.key = key;
+        }
+
+        private long acquire(RateLimitRule rule, long now) {
+            while (true) {
+                long current = tat.get();
+                if (current == EVICTED) {
+                    return EVICTED;
+                }
+                long base = Math.max(current, now);
+                long wait = base - now - rule.getBurstToleranceNanos();
+                if (wait > 0) {
+                    return wait;
+                }
+                if (tat.compareAndSet(current, base + rule.getEmissionIntervalNanos())) {
+                    return 0;
+                }
+            }
+        }
+
+        private boolean evictIfFull(long now) {
+            long current = tat.get();
+            return current != EVICTED && current <= now && tat.compareAndSet(current, EVICTED);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.learnsnap.security;
+
+import com.learnsnap.event.UserTokensRevokedEvent;
+import com.learnsnap.repository.UserRepository;
+import com.learnsnap.repository.UserTokenVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 사용자별 현재 토큰 버전 (메모리에서만 확인)
+// 버전이 0보다 큰 사용자(비밀번호/권한을 바꾼 적 있는 사용자)와 삭제된 사용자만 보관하므로 크기가 작다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenVersionStore implements SmartInitializingSingleton {
+
+    private final UserRepository userRepository;
+
+    private final ConcurrentHashMap<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<UserTokenVersion> changed = userRepository.findChangedTokenVersions();
+        for (UserTokenVersion user : changed) {
+            versions.put(user.getId(), user.getTokenVersion());
+        }
+        List<Long> deleted = userRepository.findDeletedUserIds();
+        for (Long userId : deleted) {
+            versions.put(userId, UserTokensRevokedEvent.DELETED);
+        }
+        log.info("토큰 버전 캐시 초기화: 사용자 {}명, 삭제된 사용자 {}명", changed.size(), deleted.size());
+    }
+
+    // 토큰에 담긴 버전이 현재 버전 이상이면 유효
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    // 비밀번호/권한 변경, 사용자 삭제가 커밋된 뒤 이전 버전으로 발급된 토큰을 무효화
+    // (롤백된 변경으로 버전을 올리면 DB 버전으로 새로 발급한 토큰까지 거절되므로 커밋 후에만)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTokensRevoked(UserTokensRevokedEvent event) {
+        versions.merge(event.getUserId(), event.getTokenVersion(), Math::max);
+    }
+}
@@ -1,5 +1,6 @@
 package com.learnsnap.service;
 
+import com.learnsnap.config.ReplicaRoutingDataSource;
 import com.learnsnap.domain.user.Role;
 import com.learnsnap.domain.user.User;
 import com.learnsnap.dto.LoginRequest;
@@ -9,21 +10,26 @@ import com.learnsnap.dto.SignUpResponse;
 import com.learnsnap.exception.DuplicateEmailException;
 import com.learnsnap.exception.InvalidCredentialsException;
 import com.learnsnap.repository.UserRepository;
+import com.learnsnap.security.PasswordHasher;
 import com.learnsnap.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;  
 
-    @Transactional
+    // 트랜잭션을 열지 않는다 - 해시 계산(작업 풀 대기 포함) 동안 DB 커넥션을 잡고 있지 않도록
     public SignUpResponse signUp(SignUpRequest request) {
         // 1. 이메일 중복 체크
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -33,13 +39,18 @@ public class AuthService {
         // 2. User 엔티티 생성
         User user = User.builder()
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(passwordHasher.encode(request.getPassword()))
                 .username(request.getUsername())
                 .role(Role.LEARNER)
                 .build();
 
-        // 3. 저장
-        User savedUser = userRepository.save(user);
+        // 3. 저장 (중복 체크 이후 같은 이메일로 먼저 가입한 경우 unique 제약 위반)
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateEmailException("이미 사용 중인 이메일입니다: " + request.getEmail());
+        }
 
         // 4. Response DTO로 변환
         return SignUpResponse.builder()
@@ -51,20 +62,28 @@ public class AuthService {
                 .build();
     }
 
-    // 로그인 메서드 
-    @Transactional(readOnly = true)
+    // 로그인 메서드 (signUp과 같은 이유로 트랜잭션을 열지 않는다)
     public LoginResponse login(LoginRequest request) {
-        // 1. 이메일로 사용자 찾기
-        User user = userRepository.findByEmail(request.getEmail())
+        // 1. 이메일로 사용자 찾기 (primary에서 - 복제본에는 방금 바뀐 비밀번호/권한/삭제와 tokenVersion이 아직 없을 수 있다)
+        User user = ReplicaRoutingDataSource.onPrimary(() -> userRepository.findByEmail(request.getEmail()))
                 .orElseThrow(() -> new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다"));
 
         // 2. 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
-        // 3. JWT 토큰 생성
-        String accessToken = jwtUtil.generateToken(user.getEmail());
+        // BCrypt cost 설정이 올라갔으면 평문을 아는 지금 다시 해시 (실패해도 로그인은 계속)
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
+
+        // 3. JWT 토큰 생성 (사용자 ID/권한/토큰 버전 포함)
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(JwtUtil.CLAIM_USER_ID, user.getId());
+        claims.put(JwtUtil.CLAIM_ROLE, user.getRole().name());
+        claims.put(JwtUtil.CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        String accessToken = jwtUtil.generateToken(user.getEmail(), claims);
 
         // 4. Response 생성
         LoginResponse.UserInfo userInfo = LoginResponse.UserInfo.builder()
@@ -79,4 +98,13 @@ public class AuthService {
                 .user(userInfo)
                 .build();
     }
+
+    private void rehash(User user, String rawPassword) {
+        try {
+            String newHash = passwordHasher.encode(rawPassword);
+            userRepository.updatePasswordHash(user.getId(), user.getPassword(), newHash);
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 재해시 실패: 사용자 {} ({})", user.getId(), e.getMessage());
+        }
+    }
 }
\ No newline at end of file
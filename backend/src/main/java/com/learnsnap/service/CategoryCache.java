@@ -0,0 +1,71 @@
+package com.learnsnap.service;
+
+import com.learnsnap.dto.CacheStatsResponse;
+import com.learnsnap.dto.CategoryResponse;
+import com.learnsnap.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 카테고리 캐시 (ID별, slug별, 전체 목록)
+// 카테고리는 거의 바뀌지 않으므로 변경 시 전체를 무효화한다
+@Component
+public class CategoryCache {
+
+    private static final String ALL_KEY = "all";
+
+    private final LruCache<Long, CategoryResponse> byId;
+    private final LruCache<String, CategoryResponse> bySlug;
+    private final LruCache<String, List<CategoryResponse>> all;
+
+    public CategoryCache(@Value("${learnsnap.cache.categories.max-size:1000}") int maxSize) {
+        this.byId = new LruCache<>(maxSize);
+        this.bySlug = new LruCache<>(maxSize);
+        this.all = new LruCache<>(1);
+    }
+
+    public List<CategoryResponse> getAll(Supplier<List<CategoryResponse>> loader) {
+        return all.getOrLoad(ALL_KEY, key -> List.copyOf(loader.get()));
+    }
+
+    public CategoryResponse getById(Long id, Function<Long, CategoryResponse> loader) {
+        return byId.getOrLoad(id, loader);
+    }
+
+    public CategoryResponse getBySlug(String slug, Function<String, CategoryResponse> loader) {
+        return bySlug.getOrLoad(slug, loader);
+    }
+
+    // 지금 비우고, 트랜잭션이 끝난 뒤 한 번 더 비운다
+    // (커밋 전에 다른 요청이 옛 값을 다시 읽어 넣는 경우 대비)
+    public void invalidateAll() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public List<CacheStatsResponse> stats() {
+        return List.of(
+                CacheStatsResponse.of("categories.byId", byId),
+                CacheStatsResponse.of("categories.bySlug", bySlug),
+                CacheStatsResponse.of("categories.all", all)
+        );
+    }
+
+    private void clear() {
+        byId.clear();
+        bySlug.clear();
+        all.clear();
+    }
+}
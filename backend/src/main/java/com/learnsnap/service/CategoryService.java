@@ -1,12 +1,16 @@
 package com.learnsnap.service;
 
+import com.learnsnap.config.ReplicaRoutingDataSource;
 import com.learnsnap.domain.category.Category;
+import com.learnsnap.dto.CacheStatsResponse;
 import com.learnsnap.dto.CategoryRequest;
 import com.learnsnap.dto.CategoryResponse;
+import com.learnsnap.event.CategoryChangedEvent;
 import com.learnsnap.exception.CategoryNotFoundException;
 import com.learnsnap.exception.DuplicateCategoryException;
 import com.learnsnap.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,22 +22,46 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 전체 카테고리 조회
-    @Transactional(readOnly = true)
+    // 전체 카테고리 조회 (캐시 hit이면 DB 접근 없음 - 그래서 트랜잭션도 열지 않는다)
+    // 캐시는 다음 카테고리 변경까지 유지되므로 로더는 복제본이 아닌 primary에서 읽는다
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll().stream()
+        return categoryCache.getAll(() -> ReplicaRoutingDataSource.onPrimary(() -> categoryRepository.findAll().stream()
                 .map(this::convertToResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList())));
     }
 
     // 특정 카테고리 조회 (ID)
-    @Transactional(readOnly = true)
     public CategoryResponse getCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
-                .orElseThrow(() -> new CategoryNotFoundException("카테고리를 찾을 수 없습니다: " + id));
-        
-        return convertToResponse(category);
+        CategoryResponse category = categoryCache.getById(id, key -> ReplicaRoutingDataSource.onPrimary(
+                () -> categoryRepository.findById(key)
+                        .map(this::convertToResponse)
+                        .orElse(null)));
+
+        if (category == null) {
+            throw new CategoryNotFoundException("카테고리를 찾을 수 없습니다: " + id);
+        }
+        return category;
+    }
+
+    // 특정 카테고리 조회 (slug)
+    public CategoryResponse getCategoryBySlug(String slug) {
+        CategoryResponse category = categoryCache.getBySlug(slug, key -> ReplicaRoutingDataSource.onPrimary(
+                () -> categoryRepository.findBySlug(key)
+                        .map(this::convertToResponse)
+                        .orElse(null)));
+
+        if (category == null) {
+            throw new CategoryNotFoundException("카테고리를 찾을 수 없습니다: " + slug);
+        }
+        return category;
+    }
+
+    // 캐시 통계
+    public List<CacheStatsResponse> getCacheStats() {
+        return categoryCache.stats();
     }
 
     // 카테고리 생성
@@ -59,6 +87,8 @@ public class CategoryService {
 
         // 저장
         Category savedCategory = categoryRepository.save(category);
+        categoryCache.invalidateAll();
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId()));
 
         return convertToResponse(savedCategory);
     }
@@ -89,6 +119,8 @@ public class CategoryService {
             request.getDescription(),
             request.getIcon()
         );
+        categoryCache.invalidateAll();
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
 
         return convertToResponse(category);
     }
@@ -102,6 +134,8 @@ public class CategoryService {
         }
 
         categoryRepository.deleteById(id);
+        categoryCache.invalidateAll();
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     // Entity -> Response DTO 변환
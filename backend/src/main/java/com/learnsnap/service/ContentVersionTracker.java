@@ -0,0 +1,188 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.CategoryChangedEvent;
+import com.learnsnap.event.UserProfileChangedEvent;
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.event.VideoCountersFlushedEvent;
+import com.learnsnap.event.VideosImportedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 조건부 GET(If-None-Match)용 ETag
+// DB 값(updated_at, 행 수, 조회수/좋아요 수, 카운터 반영 시퀀스)에서 만들므로 인스턴스가 여러 개여도, 재시작해도 같은 내용이면 같은 ETag다
+// ETag는 DB 값을 먼저 읽고 본문을 나중에 만들기 때문에, 경쟁 상황에서도 옛 ETag에 새 본문이 붙을 뿐 그 반대는 없다
+// 조회수/좋아요 수는 조회/좋아요마다가 아니라 CounterBuffer가 DB에 반영할 때만 바뀐다
+// (반영 주기 동안은 캐시된 응답의 카운터가 그만큼 늦을 수 있다)
+// 썸네일 변형 URL(v=해시)은 인스턴스마다 만들어지므로 ThumbnailService의 해시를 함께 넣는다
+// 트랜잭션 밖에서 읽으므로 복제본이 아닌 primary 값이다
+@Component
+public class ContentVersionTracker {
+
+    // 비디오 응답에는 카테고리/강사 정보도 들어가므로 두 행의 updated_at도 함께
+    private static final String VIDEO_SQL =
+            "SELECT v.updated_at, v.views_count, v.likes_count, c.updated_at, u.updated_at "
+            + "FROM videos v JOIN categories c ON c.id = v.category_id JOIN users u ON u.id = v.instructor_id "
+            + "WHERE v.id = ?";
+
+    // 삭제는 행 수로, 추가/수정은 max(updated_at)으로 드러난다 (카운터는 반영할 때마다 시퀀스가 오른다)
+    private static final String CATALOG_SQL =
+            "SELECT (SELECT count(*) FROM videos), (SELECT max(updated_at) FROM videos), "
+            + "(SELECT count(*) FROM categories), (SELECT max(updated_at) FROM categories), "
+            + "(SELECT max(updated_at) FROM users), "
+            + "(SELECT last_value FROM video_counters_flush_seq)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingLeaderboard trendingLeaderboard;
+    private final ThumbnailService thumbnailService;
+    // 목록/카테고리 버전 조회(행 수 집계)를 요청마다 하지 않도록 이 시간 동안 재사용
+    // 이 인스턴스의 변경은 커밋 후 바로 비우므로, 늦게 보이는 것은 다른 인스턴스의 변경뿐이다
+    private final long catalogTtlNanos;
+
+    // 비울 때마다 증가 - 비우기 전에 읽기 시작한 값은 다시 쓰이지 않는다
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Cached cached;
+
+    public ContentVersionTracker(JdbcTemplate jdbcTemplate, TrendingLeaderboard trendingLeaderboard,
+                                 ThumbnailService thumbnailService,
+                                 @Value("${learnsnap.cache.catalog-version-ttl-millis:1000}") long catalogTtlMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingLeaderboard = trendingLeaderboard;
+        this.thumbnailService = thumbnailService;
+        this.catalogTtlNanos = TimeUnit.MILLISECONDS.toNanos(catalogTtlMillis);
+    }
+
+    // GET /api/videos/{id} (없는 비디오면 본문 쪽에서 404)
+    public String videoTag(Long id) {
+        VideoStamp stamp = loadVideo(id);
+        if (stamp == null) {
+            return "\"v-" + id + "-none\"";
+        }
+        return "\"v-" + id + "-" + base36(stamp.updatedAt()) + "-" + base36(stamp.viewsCount())
+                + "-" + base36(stamp.likesCount()) + "-" + base36(stamp.categoryUpdatedAt())
+                + "-" + base36(stamp.instructorUpdatedAt()) + "-" + thumbnailTag(thumbnailService.readyHash(id)) + "\"";
+    }
+
+    // GET /api/videos (페이징/커서 목록), /api/videos/category/{id}, /api/videos/instructor/{id}
+    public String videoListTag() {
+        return "\"vl-" + catalogTag(catalog()) + "-" + base36(thumbnailService.readyFingerprint()) + "\"";
+    }
+
+    // GET /api/videos/popular (비디오 내용 + 인기 순위의 ID 순서)
+    public String popularTag(Long categoryId, int limit) {
+        List<Long> ranked = categoryId != null
+                ? trendingLeaderboard.topByCategory(categoryId, limit)
+                : trendingLeaderboard.top(limit);
+        long order = 1;
+        for (Long id : ranked) {
+            order = 31 * order + id;
+        }
+        return "\"p-" + catalogTag(catalog()) + "-" + base36(thumbnailService.readyFingerprint())
+                + "-" + ranked.size() + "-" + base36(order) + "\"";
+    }
+
+    // GET /api/categories, /api/categories/{id}, /api/categories/slug/{slug}
+    public String categoryTag() {
+        CatalogStamp stamp = catalog();
+        return "\"c-" + base36(stamp.categories()) + "-" + base36(stamp.categoriesUpdatedAt()) + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideosImported(VideosImportedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        invalidate();
+    }
+
+    // 커밋 후에 발행된다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersFlushed(VideoCountersFlushedEvent event) {
+        invalidate();
+    }
+
+    // 비디오 하나의 버전 값 (없으면 null, 테스트에서 DB 없이 바꿔 끼우도록 package-private)
+    VideoStamp loadVideo(Long id) {
+        List<VideoStamp> rows = jdbcTemplate.query(VIDEO_SQL, (rs, rowNum) -> new VideoStamp(
+                micros(rs, 1), rs.getLong(2), rs.getLong(3), micros(rs, 4), micros(rs, 5)), id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // 목록/카테고리 버전 값 (테스트에서 DB 없이 바꿔 끼우도록 package-private)
+    CatalogStamp loadCatalog() {
+        return jdbcTemplate.queryForObject(CATALOG_SQL, (rs, rowNum) -> new CatalogStamp(
+                rs.getLong(1), micros(rs, 2), rs.getLong(3), micros(rs, 4), micros(rs, 5), rs.getLong(6)));
+    }
+
+    private CatalogStamp catalog() {
+        Cached current = cached;
+        long observed = generation.get();
+        if (current != null && current.generation() == observed && System.nanoTime() - current.expiresAt() < 0) {
+            return current.stamp();
+        }
+        CatalogStamp stamp = loadCatalog();
+        cached = new Cached(stamp, System.nanoTime() + catalogTtlNanos, observed);
+        return stamp;
+    }
+
+    private void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private static String catalogTag(CatalogStamp stamp) {
+        return base36(stamp.videos()) + "-" + base36(stamp.videosUpdatedAt()) + "-" + base36(stamp.categories())
+                + "-" + base36(stamp.categoriesUpdatedAt()) + "-" + base36(stamp.usersUpdatedAt())
+                + "-" + base36(stamp.countersFlushed());
+    }
+
+    private static String thumbnailTag(String hash) {
+        return hash != null ? hash : "0";
+    }
+
+    private static String base36(long value) {
+        return Long.toString(value, 36);
+    }
+
+    // 마이크로초 단위 (TIMESTAMP(6)), 행이 없으면 0
+    private static long micros(ResultSet rs, int column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        if (timestamp == null) {
+            return 0L;
+        }
+        return TimeUnit.MILLISECONDS.toMicros(timestamp.getTime() - timestamp.getTime() % 1000)
+                + timestamp.getNanos() / 1000;
+    }
+
+    // 비디오/카테고리/강사의 updated_at(마이크로초)과 DB에 반영된 조회수/좋아요 수
+    record VideoStamp(long updatedAt, long viewsCount, long likesCount,
+                      long categoryUpdatedAt, long instructorUpdatedAt) {
+    }
+
+    // 비디오/카테고리 행 수와 max(updated_at), 사용자 max(updated_at), 카운터 반영 시퀀스
+    record CatalogStamp(long videos, long videosUpdatedAt, long categories, long categoriesUpdatedAt,
+                        long usersUpdatedAt, long countersFlushed) {
+    }
+
+    private record Cached(CatalogStamp stamp, long expiresAt, long generation) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoCountersFlushedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.VarHandle;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 비디오별 카운터 변경을 메모리에 누적했다가 주기적으로 한 번에 DB에 반영하는 버퍼
+// (인기 비디오의 row lock 경합과 매 요청마다의 UPDATE를 피하기 위함)
+// LongAdder는 내부적으로 셀을 나눠 더하므로 같은 비디오에 동시에 몰려도 하나의 값에서 경합하지 않는다
+@Slf4j
+public abstract class CounterBuffer {
+
+    // 반영할 때마다 올리는 시퀀스 - 목록 ETag(ContentVersionTracker)가 다른 인스턴스의 반영까지 알아보도록
+    private static final String FLUSH_SEQUENCE_SQL = "SELECT nextval('video_counters_flush_seq')";
+
+    private final String name;
+    private final VideoCountersFlushedEvent.Type type;
+    private final String flushSql;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // 반영 후 카운터를 지우지 않고 두는 시간 - 복제본이 반영을 재생하기 전에 읽은 값이 반영 직후 값으로 보정되도록
+    private final long retainNanos;
+
+    // 비디오 ID별 카운터 (비디오마다 LongAdder 하나, 한 주기 동안 변경이 없으면 제거)
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // 스케줄러와 종료 시 flush가 겹치지 않도록
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // flushSql의 파라미터는 (비디오 ID 배열, 변경량 배열), 결과 행은 (비디오 ID, 반영 후 값)
+    protected CounterBuffer(String name, VideoCountersFlushedEvent.Type type, String flushSql,
+                            JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher, long retainAfterFlushMillis) {
+        this.name = name;
+        this.type = type;
+        this.flushSql = flushSql;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.retainNanos = TimeUnit.MILLISECONDS.toNanos(retainAfterFlushMillis);
+    }
+
+    // 변경량 누적 - 쓰는 중임을 먼저 알리고, 제거 중인 카운터면 더하지 않고 다시 찾는다
+    protected void add(Long videoId, long delta) {
+        while (true) {
+            Counter counter = counters.computeIfAbsent(videoId, id -> new Counter());
+            counter.writers.increment();
+            // 위 증가가 retired 확인보다 먼저 보이도록 (retire와 짝)
+            VarHandle.fullFence();
+            if (!counter.retired) {
+                counter.recorded.add(delta);
+                counter.writers.decrement();
+                return;
+            }
+            counter.writers.decrement();
+            Thread.onSpinWait();
+        }
+    }
+
+    // DB에서 읽은 값에 아직 반영되지 않은 변경량을 더한 현재 값
+    // 읽은 값이 마지막 반영 직후 값에서 반영 전 값 쪽에 있으면(반영 커밋 전에 읽었거나, 반영을 아직 재생하지 못한 복제본에서 읽은 값)
+    // 반영 직후 값을 기준으로 한다 - 좋아요 취소처럼 반영이 값을 줄였으면 반영 직후 값보다 큰 값이 옛 값이다
+    public long current(Long videoId, long persisted) {
+        Counter counter = counters.get(videoId);
+        if (counter == null) {
+            return persisted;
+        }
+        Snapshot snapshot = counter.snapshot;
+        long baseline = snapshot.readBeforeFlush(persisted) ? snapshot.persisted() : persisted;
+        return baseline + counter.recorded.sum() - snapshot.flushed();
+    }
+
+    // 삭제된 비디오의 카운터 제거
+    public void discard(Long videoId) {
+        counters.remove(videoId);
+    }
+
+    // 메모리에 남아 있는 카운터 수 (테스트에서 확인하도록 package-private)
+    int size() {
+        return counters.size();
+    }
+
+    // 누적된 변경량을 한 번의 UPDATE로 반영 (하위 클래스에서 주기 지정)
+    // 새 반영 지점은 커밋 직전에 공개한다 - 그 사이에 읽은 옛 DB 값은 반영 직후 값으로 바꿔서 계산되므로
+    // 커밋 전후 어느 시점에 읽어도 변경량이 빠지거나 두 번 더해지지 않는다
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            List<Long> deltas = new ArrayList<>();
+            List<Counter> flushing = new ArrayList<>();
+            List<Long> totals = new ArrayList<>();
+
+            for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+                Counter counter = entry.getValue();
+                long total = counter.recorded.sum();
+                long delta = total - counter.snapshot.flushed();
+                if (delta != 0) {
+                    ids.add(entry.getKey());
+                    deltas.add(delta);
+                    flushing.add(counter);
+                    totals.add(total);
+                    counter.idle = false;
+                } else if (counter.idle && retentionPassed(counter.snapshot)) {
+                    retire(entry.getKey(), counter);
+                } else {
+                    counter.idle = true;
+                }
+            }
+
+            if (ids.isEmpty()) {
+                return;
+            }
+
+            List<Snapshot> previous = new ArrayList<>(flushing.size());
+            long flushedAt = System.nanoTime();
+            Map<Long, Long> persisted;
+            try {
+                persisted = transactionTemplate.execute(status -> {
+                    Map<Long, Long> written = writeDeltas(ids, deltas);
+                    for (int i = 0; i < flushing.size(); i++) {
+                        Counter counter = flushing.get(i);
+                        Snapshot before = counter.snapshot;
+                        previous.add(before);
+                        // 이미 삭제된 비디오는 결과 행이 없다 - 변경량은 버리고 기준 값은 그대로
+                        Long after = written.get(ids.get(i));
+                        counter.snapshot = after == null
+                                ? new Snapshot(totals.get(i), before.persisted(), before.persisted(), flushedAt)
+                                : new Snapshot(totals.get(i), after, after - deltas.get(i), flushedAt);
+                    }
+                    return written;
+                });
+            } catch (DataAccessException | TransactionException e) {
+                // 커밋되지 않았으므로 반영 지점을 되돌린다 (다음 주기에 재시도)
+                for (int i = 0; i < previous.size(); i++) {
+                    flushing.get(i).snapshot = previous.get(i);
+                }
+                log.warn("{} 반영 실패, 다음 주기에 재시도합니다: {}", name, e.getMessage());
+                return;
+            }
+
+            // 반영된 DB 값으로 ETag가 바뀌므로 반영 중에 만들어진 응답(DB 값과 미반영분이 겹친 값)은 캐시에 남지 않는다
+            eventPublisher.publishEvent(new VideoCountersFlushedEvent(type, persisted));
+
+            log.debug("{} {}건 반영", name, ids.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 변경량을 한 번의 UPDATE로 반영하고(반영 시퀀스도 올린다) 비디오별 반영 후 값을 돌려준다
+    // (트랜잭션 안에서 호출, 테스트에서 DB 없이 바꿔 끼우도록 package-private)
+    Map<Long, Long> writeDeltas(List<Long> ids, List<Long> deltas) {
+        Map<Long, Long> persisted = new HashMap<>(ids.size() * 2);
+        jdbcTemplate.query(flushSql, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            ps.setArray(2, connection.createArrayOf("bigint", deltas.toArray()));
+        }, (RowCallbackHandler) rs -> persisted.put(rs.getLong(1), rs.getLong(2)));
+        jdbcTemplate.queryForObject(FLUSH_SEQUENCE_SQL, Long.class);
+        return persisted;
+    }
+
+    // 마지막 반영 후 retainNanos가 지났으면 어느 복제본에서 읽어도 반영된 값이다
+    // (복제본 라우팅이 지연 한도를 넘는 복제본을 제외하므로 retain은 지연 한도 + 점검 주기보다 길게 둔다)
+    private boolean retentionPassed(Snapshot snapshot) {
+        return snapshot == Snapshot.NONE || System.nanoTime() - snapshot.flushedAt() >= retainNanos;
+    }
+
+    // 한 주기 동안 변경이 없던 카운터 제거 (마지막 반영이 커밋되고 복제본까지 전해진 뒤이므로 DB 값만으로 충분)
+    // 제거 표시 후 쓰는 중인 add가 없고 그 사이 더해진 값도 없을 때만 지운다
+    // 표시를 본 add는 더하지 않고 다시 찾으므로, 지운 카운터에 변경량이 남는 일은 없다
+    private void retire(Long videoId, Counter counter) {
+        counter.retired = true;
+        VarHandle.fullFence();
+        if (counter.writers.sum() == 0 && counter.recorded.sum() == counter.snapshot.flushed()) {
+            counters.remove(videoId, counter);
+        } else {
+            counter.retired = false;
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder recorded = new LongAdder();
+        private final LongAdder writers = new LongAdder();  // add 진행 중인 스레드 수
+        private volatile Snapshot snapshot = Snapshot.NONE;  // flushLock 안에서만 교체
+        private volatile boolean retired;
+        private boolean idle;  // flushLock 안에서만 사용
+    }
+
+    // 반영된 누적 변경량, 반영 직후의 DB 값, 반영 전의 DB 값, 반영 시각(System.nanoTime) (읽는 쪽이 한 번에 보도록 함께 교체)
+    private record Snapshot(long flushed, long persisted, long unflushed, long flushedAt) {
+        private static final Snapshot NONE = new Snapshot(0L, Long.MIN_VALUE, Long.MIN_VALUE, 0L);
+
+        // 반영이 움직인 방향의 반대편(반영 전 값 쪽)에서 읽은 값인지 - 반영이 없었거나 변화가 없었으면 읽은 값 그대로
+        private boolean readBeforeFlush(long read) {
+            if (unflushed < persisted) {
+                return read < persisted;
+            }
+            if (unflushed > persisted) {
+                return read > persisted;
+            }
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.util.LruCache;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// 직렬화가 끝난 JSON(과 gzip) 바이트 캐시 - 자주 조회되는 응답은 변환/직렬화 없이 바이트를 그대로 쓴다
+// 항목은 ContentVersionTracker의 버전(ETag)과 함께 저장하므로, 수정/삭제/카운터 반영으로 버전이 바뀌면 자동으로 다시 만든다
+// 조회/좋아요 자체는 버전을 바꾸지 않으므로 인기 비디오도 반영 주기 동안은 캐시된 바이트를 쓴다
+@Component
+public class EncodedResponseCache {
+
+    private static final String VIDEO_KEY_PREFIX = "video:";
+
+    private final JsonMapper jsonMapper;
+    private final LruCache<String, Encoded> cache;
+
+    public EncodedResponseCache(JsonMapper jsonMapper,
+                                @Value("${learnsnap.cache.responses.max-size:1000}") int maxSize) {
+        this.jsonMapper = jsonMapper;
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    // GET /api/videos/{id}
+    public Encoded video(Long id, String version, Supplier<?> loader) {
+        return getOrEncode(VIDEO_KEY_PREFIX + id, version, loader);
+    }
+
+    // GET /api/videos/popular
+    public Encoded popular(Long categoryId, int limit, String version, Supplier<?> loader) {
+        return getOrEncode("popular:" + categoryId + ":" + limit, version, loader);
+    }
+
+    // 버전이 같으면 캐시된 바이트, 다르면 새로 직렬화해서 교체
+    // (같은 키를 동시에 만들면 마지막 것이 남는다 - 버전이 다르면 다음 요청에서 다시 만들 뿐)
+    private Encoded getOrEncode(String key, String version, Supplier<?> loader) {
+        Encoded cached = cache.get(key);
+        if (cached != null && cached.version.equals(version)) {
+            return cached;
+        }
+
+        byte[] json = jsonMapper.writeValueAsBytes(loader.get());
+        Encoded encoded = new Encoded(version, json, gzip(json));
+        cache.put(key, encoded);
+        return encoded;
+    }
+
+    // 삭제된 비디오는 버전 비교를 기다리지 않고 바로 비운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        cache.remove(VIDEO_KEY_PREFIX + event.getVideoId());
+    }
+
+    // Accept-Encoding에 gzip이 있고 q=0이 아니면 true
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            // 메모리 스트림이므로 발생하지 않음
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    public static final class Encoded {
+        private final String version;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private Encoded(String version, byte[] json, byte[] gzip) {
+            this.version = version;
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoCountersFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 좋아요 수 버퍼 (좋아요/취소마다 videos 행을 잠그지 않고 순변화량만 주기적으로 반영)
+@Component
+public class LikeCountBuffer extends CounterBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE videos v SET likes_count = GREATEST(v.likes_count + d.delta, 0) "
+            + "FROM unnest(?::bigint[], ?::bigint[]) AS d(id, delta) WHERE v.id = d.id "
+            + "RETURNING v.id, v.likes_count";
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${learnsnap.counters.retain-after-flush-millis:3000}") long retainAfterFlushMillis) {
+        super("좋아요 수", VideoCountersFlushedEvent.Type.LIKES, FLUSH_SQL,
+                jdbcTemplate, transactionManager, eventPublisher, retainAfterFlushMillis);
+    }
+
+    // 좋아요 1 증가
+    public void increment(Long videoId) {
+        add(videoId, 1L);
+    }
+
+    // 좋아요 1 감소
+    public void decrement(Long videoId) {
+        add(videoId, -1L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${learnsnap.likes.flush-interval-ms:5000}")
+    public void flush() {
+        super.flush();
+    }
+
+    // 애플리케이션 종료 시 남은 변화량 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,211 @@
+package com.learnsnap.service;
+
+import com.learnsnap.config.ReplicaRoutingDataSource;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.event.VideoCountersFlushedEvent;
+import com.learnsnap.event.VideosImportedEvent;
+import com.learnsnap.repository.VideoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 최신 비디오 N개를 담는 링 버퍼 (생성 시 추가, 수정/삭제 시 해당 칸만 교체)
+// 쓰기는 head 증가 + 칸 교체, 읽기는 칸의 순번으로 유효성 확인 -> 락 없음
+// 버퍼 밖의 비디오는 모두 버퍼 안의 비디오보다 오래된 것이므로 남아 있는 개수만큼은 DB와 같은 결과
+@Slf4j
+@Component
+public class RecentVideos implements SmartInitializingSingleton {
+
+    private final VideoRepository videoRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final LikeCountBuffer likeCountBuffer;
+    private final int capacity;
+
+    private final AtomicReferenceArray<Slot> slots;
+    // 다음에 쓸 순번 (칸 = 순번 % capacity)
+    private final AtomicLong head = new AtomicLong();
+
+    // 초기화 시점에 전체 비디오가 capacity보다 적었는지 (그렇다면 덮어쓰기 전까지는 버퍼가 전체)
+    private volatile boolean seededAll;
+
+    public RecentVideos(VideoRepository videoRepository,
+                        ViewCountBuffer viewCountBuffer,
+                        LikeCountBuffer likeCountBuffer,
+                        @Value("${learnsnap.recent.capacity:100}") int capacity) {
+        this.videoRepository = videoRepository;
+        this.viewCountBuffer = viewCountBuffer;
+        this.likeCountBuffer = likeCountBuffer;
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    // 웹 서버가 요청을 받기 전에 DB에서 채운다
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // 전체 재구축 (요청을 받기 전에만 호출 - 동시 추가와는 조율하지 않는다)
+    public void rebuild() {
+        List<VideoResponse> recent = videoRepository.findRecentResponses(PageRequest.of(0, capacity));
+
+        for (int i = 0; i < capacity; i++) {
+            slots.set(i, null);
+        }
+        head.set(0);
+
+        // 오래된 것부터 넣어야 최신이 가장 큰 순번
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            push(recent.get(i));
+        }
+        seededAll = recent.size() < capacity;
+
+        log.info("최신 비디오 버퍼 초기화: {}개", recent.size());
+    }
+
+    // 커밋된 비디오 변경만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> push(event.getVideo());
+            case UPDATED -> replace(event.getVideoId(), event.getVideo());
+            case DELETED -> replace(event.getVideoId(), null);
+        }
+    }
+
+    // 반영된 조회수/좋아요 수를 칸의 DB 값에 옮긴다
+    // (버퍼는 한동안 변경이 없는 카운터를 지우므로, 칸이 옛 DB 값을 들고 있으면 숫자가 되돌아간다)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCountersFlushed(VideoCountersFlushedEvent event) {
+        Map<Long, Long> persisted = event.getPersisted();
+        boolean views = event.getType() == VideoCountersFlushedEvent.Type.VIEWS;
+        for (int i = 0; i < capacity; i++) {
+            while (true) {
+                Slot slot = slots.get(i);
+                Long value = slot != null && slot.video != null ? persisted.get(slot.video.getId()) : null;
+                if (value == null) {
+                    break;
+                }
+                Slot updated = views
+                        ? new Slot(slot.seq, slot.video, value, slot.persistedLikes)
+                        : new Slot(slot.seq, slot.video, slot.persistedViews, value);
+                if (slots.compareAndSet(i, slot, updated)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    // 일괄 등록 후 다시 채운다 - 기존 칸을 모두 삭제 표시한 뒤 DB의 최신 N개를 이어서 넣는다
+    // (그 사이 읽기는 남은 개수가 모자라 DB 조회로 넘어가므로 틀린 결과는 나오지 않는다)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideosImported(VideosImportedEvent event) {
+        for (int i = 0; i < capacity; i++) {
+            while (true) {
+                Slot slot = slots.get(i);
+                if (slot == null || slot.video == null
+                        || slots.compareAndSet(i, slot, new Slot(slot.seq, null, 0L, 0L))) {
+                    break;
+                }
+            }
+        }
+
+        List<VideoResponse> recent = ReplicaRoutingDataSource.onPrimary(
+                () -> videoRepository.findRecentResponses(PageRequest.of(0, capacity)));
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            push(recent.get(i));
+        }
+        seededAll = false;
+
+        log.info("최신 비디오 버퍼 다시 채움: {}개", recent.size());
+    }
+
+    // 최신순 limit개 - 버퍼만으로 답할 수 없으면 empty (호출하는 쪽에서 DB 조회)
+    public Optional<List<VideoResponse>> latest(int limit) {
+        long end = head.get();
+        long start = Math.max(0, end - capacity);
+
+        List<VideoResponse> videos = new ArrayList<>(Math.min(limit, capacity));
+        for (long seq = end - 1; seq >= start && videos.size() < limit; seq--) {
+            Slot slot = slots.get(index(seq));
+            // 아직 쓰는 중이거나 이미 덮어쓰인 칸, 삭제된 비디오는 건너뜀
+            if (slot == null || slot.seq != seq || slot.video == null) {
+                continue;
+            }
+            videos.add(current(slot));
+        }
+
+        boolean holdsAll = seededAll && end <= capacity;
+        if (videos.size() < limit && !holdsAll) {
+            return Optional.empty();
+        }
+        return Optional.of(videos);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // video의 조회수/좋아요 수는 DB 값이어야 한다 (미반영분은 읽을 때 버퍼에서 더한다)
+    private void push(VideoResponse video) {
+        long seq = head.getAndIncrement();
+        slots.set(index(seq), new Slot(seq, video, video.getViewsCount(), video.getLikesCount()));
+    }
+
+    // 같은 비디오가 들어 있는 칸을 새 스냅샷(null이면 삭제 표시)으로 교체 - 조회수/좋아요 수 기준 값은 유지
+    private void replace(Long videoId, VideoResponse video) {
+        for (int i = 0; i < capacity; i++) {
+            while (true) {
+                Slot slot = slots.get(i);
+                if (slot == null || slot.video == null || !slot.video.getId().equals(videoId)) {
+                    break;
+                }
+                Slot replaced = video != null
+                        ? new Slot(slot.seq, video, slot.persistedViews, slot.persistedLikes)
+                        : new Slot(slot.seq, null, 0L, 0L);
+                if (slots.compareAndSet(i, slot, replaced)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 공유 스냅샷은 바꾸지 않고 복사본에 칸의 DB 값 + 미반영 조회수/좋아요 변화 반영
+    private VideoResponse current(Slot slot) {
+        VideoResponse video = slot.video;
+        return video.toBuilder()
+                .viewsCount(viewCountBuffer.current(video.getId(), slot.persistedViews))
+                .likesCount(Math.max(0L, likeCountBuffer.current(video.getId(), slot.persistedLikes)))
+                .build();
+    }
+
+    private int index(long seq) {
+        return (int) (seq % capacity);
+    }
+
+    // 스냅샷 + 조회수/좋아요 수의 DB 값 (반영 이벤트로 갱신, 미반영분은 읽을 때 더한다)
+    private static final class Slot {
+        private final long seq;
+        private final VideoResponse video;
+        private final long persistedViews;
+        private final long persistedLikes;
+
+        private Slot(long seq, VideoResponse video, long persistedViews, long persistedLikes) {
+            this.seq = seq;
+            this.video = video;
+            this.persistedViews = persistedViews;
+            this.persistedLikes = persistedLikes;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,501 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.exception.ThumbnailNotFoundException;
+import com.learnsnap.repository.VideoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+// 썸네일 변형(160/320/640px) 생성 및 디스크 캐시
+// 원본 내용의 해시로 저장하므로 같은 이미지는 한 번만 만들고, URL의 v=해시 덕분에 오래 캐시할 수 있다
+// 생성은 크기가 제한된 작업 풀에서 비동기로 - 준비되기 전에는 원본으로 응답한다
+// 원격 원본은 기본적으로 가져오지 않는다 - 켜면 allowed-hosts의 호스트만, 사설/루프백 주소와 리다이렉트는 거부
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    public static final List<Integer> WIDTHS = List.of(160, 320, 640);
+
+    private final VideoRepository videoRepository;
+    private final Path storageRoot;
+    // 로컬 원본은 저장소의 images/ 아래만 (비디오, 업로드 중인 파트, 생성된 썸네일은 원본으로 쓰지 않는다)
+    private final Path imageRoot;
+    private final Path thumbnailRoot;
+    private final boolean fetchRemote;
+    private final Set<String> allowedHosts;
+    private final int maxSourceBytes;
+    private final long maxSourcePixels;
+
+    private final ThreadPoolExecutor executor;
+    private final HttpClient httpClient;
+
+    // 비디오 ID -> 썸네일 원본과 생성된 변형의 해시
+    private final ConcurrentHashMap<Long, ThumbnailState> states = new ConcurrentHashMap<>();
+    // 생성이 끝난 (비디오 ID, 해시) 조합의 지문 합 - 같은 조합이면 인스턴스/재시작과 상관없이 같은 값 (목록 ETag용)
+    private final AtomicLong readyFingerprint = new AtomicLong();
+
+    public ThumbnailService(VideoRepository videoRepository,
+                            @Value("${learnsnap.storage.root:./storage}") String storageRoot,
+                            @Value("${learnsnap.thumbnails.workers:2}") int workers,
+                            @Value("${learnsnap.thumbnails.queue-size:100}") int queueSize,
+                            @Value("${learnsnap.thumbnails.fetch-remote:false}") boolean fetchRemote,
+                            @Value("${learnsnap.thumbnails.allowed-hosts:}") String[] allowedHosts,
+                            @Value("${learnsnap.thumbnails.max-source-bytes:10485760}") int maxSourceBytes,
+                            @Value("${learnsnap.thumbnails.max-source-pixels:40000000}") long maxSourcePixels) {
+        this.videoRepository = videoRepository;
+        this.storageRoot = Paths.get(storageRoot).toAbsolutePath().normalize();
+        this.imageRoot = this.storageRoot.resolve("images");
+        this.thumbnailRoot = this.storageRoot.resolve("thumbnails");
+        this.fetchRemote = fetchRemote;
+        this.allowedHosts = Arrays.stream(allowedHosts)
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .filter(host -> !host.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxSourcePixels = maxSourcePixels;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                // 리다이렉트를 따라가면 허용 목록 밖(내부 주소 포함)으로 나갈 수 있다
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    // 응답에 넣을 변형 URL (생성이 끝났으면 v=해시가 붙는다)
+    public Map<Integer, String> variantUrls(Long videoId, String thumbnailUrl) {
+        if (thumbnailUrl == null || thumbnailUrl.isBlank()) {
+            return null;
+        }
+        ThumbnailState state = states.get(videoId);
+        String version = state != null && state.source.equals(thumbnailUrl) ? state.hash.get() : null;
+
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (Integer width : WIDTHS) {
+            String url = "/api/videos/" + videoId + "/thumbnails/" + width;
+            urls.put(width, version != null ? url + "?v=" + version : url);
+        }
+        return urls;
+    }
+
+    // 생성이 끝난 변형의 해시 (없으면 null, 비디오 ETag용)
+    public String readyHash(Long videoId) {
+        ThumbnailState state = states.get(videoId);
+        return state != null ? state.hash.get() : null;
+    }
+
+    // 생성이 끝난 변형 전체의 지문 (목록/인기 ETag용)
+    public long readyFingerprint() {
+        return readyFingerprint.get();
+    }
+
+    // 썸네일 요청 처리 방법 결정 (준비 안 됐으면 생성 예약 후 원본으로)
+    public Thumbnail lookup(Long videoId, int width) {
+        if (!WIDTHS.contains(width)) {
+            throw new ThumbnailNotFoundException("지원하지 않는 썸네일 크기입니다: " + width);
+        }
+
+        ThumbnailState state = states.get(videoId);
+        if (state == null) {
+            // 비디오가 없거나 썸네일 URL이 없으면 empty
+            String source = videoRepository.findThumbnailUrlById(videoId)
+                    .orElseThrow(() -> new ThumbnailNotFoundException("썸네일을 찾을 수 없습니다: " + videoId));
+            state = states.computeIfAbsent(videoId, id -> new ThumbnailState(source));
+        }
+        if (state.source.isBlank()) {
+            throw new ThumbnailNotFoundException("썸네일을 찾을 수 없습니다: " + videoId);
+        }
+
+        String hash = state.hash.get();
+        if (hash != null) {
+            Path file = variantFile(hash, width);
+            if (Files.isRegularFile(file)) {
+                return Thumbnail.ready(file, hash, "/api/videos/" + videoId + "/thumbnails/" + width + "?v=" + hash);
+            }
+            // 캐시 디렉터리가 지워졌으면 다시 만든다
+            setHash(videoId, state, null);
+        }
+
+        schedule(videoId, state);
+
+        // 로컬 원본이 없거나 images/ 밖의 경로면 FileSystemResource가 500을 내기 전에 404
+        Path local = resolveLocal(state.source);
+        if (local != null && Files.isRegularFile(local)) {
+            return Thumbnail.original(local);
+        }
+        if (local == null && isRemote(state.source)) {
+            return Thumbnail.redirect(state.source);
+        }
+        throw new ThumbnailNotFoundException("썸네일 원본 파일이 없습니다: " + videoId);
+    }
+
+    // 비디오 생성/썸네일 변경 시 미리 생성
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        Long videoId = event.getVideoId();
+        String source = event.getType() == VideoChangedEvent.Type.DELETED ? null : event.getVideo().getThumbnailUrl();
+        if (source == null || source.isBlank()) {
+            ThumbnailState removed = states.remove(videoId);
+            if (removed != null) {
+                setHash(videoId, removed, null);
+            }
+            return;
+        }
+        ThumbnailState[] replaced = new ThumbnailState[1];
+        ThumbnailState state = states.compute(videoId, (id, old) -> {
+            if (old != null && old.source.equals(source)) {
+                return old;
+            }
+            replaced[0] = old;
+            return new ThumbnailState(source);
+        });
+        if (replaced[0] != null) {
+            setHash(videoId, replaced[0], null);
+        }
+        schedule(videoId, state);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 해시를 바꾸면서 지문에서 이전 조합을 빼고 새 조합을 더한다
+    private void setHash(Long videoId, ThumbnailState state, String hash) {
+        String previous = state.hash.getAndSet(hash);
+        readyFingerprint.addAndGet(fingerprint(videoId, hash) - fingerprint(videoId, previous));
+    }
+
+    private static long fingerprint(Long videoId, String hash) {
+        return hash == null ? 0L : (videoId * 31 + hash.hashCode()) * 0x9E3779B97F4A7C15L;
+    }
+
+    private void schedule(Long videoId, ThumbnailState state) {
+        if (state.hash.get() != null || !state.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(videoId, state));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 참 -> 다음 요청 때 다시 시도
+            state.scheduled.set(false);
+        }
+    }
+
+    private void generate(Long videoId, ThumbnailState state) {
+        try {
+            byte[] source = readSource(state.source);
+            if (source == null) {
+                return;
+            }
+            String hash = hash(source);
+
+            if (!allVariantsExist(hash)) {
+                BufferedImage image = decode(source);
+                if (image == null) {
+                    log.warn("썸네일 원본을 읽을 수 없습니다 (지원하지 않는 형식): 비디오 {}", videoId);
+                    return;
+                }
+                Files.createDirectories(thumbnailRoot.resolve(hash));
+                for (Integer width : WIDTHS) {
+                    writeVariant(scale(image, width), variantFile(hash, width));
+                }
+            }
+
+            // 응답의 썸네일 URL에 v=해시가 붙으므로 비디오/목록 ETag도 바뀐다
+            setHash(videoId, state, hash);
+            if (states.get(videoId) != state) {
+                // 생성 중에 비디오가 삭제되었거나 원본이 바뀌었다
+                setHash(videoId, state, null);
+                return;
+            }
+            log.debug("썸네일 준비 완료: 비디오 {} ({})", videoId, hash);
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패: 비디오 {} ({})", videoId, e.getMessage());
+        } finally {
+            if (state.hash.get() == null) {
+                state.scheduled.set(false);
+            }
+        }
+    }
+
+    // 로컬 경로면 저장소에서, http(s) URL이면 내려받는다 (크기 제한)
+    private byte[] readSource(String source) throws IOException {
+        Path local = resolveLocal(source);
+        if (local != null) {
+            if (!Files.isRegularFile(local) || Files.size(local) > maxSourceBytes) {
+                return null;
+            }
+            return Files.readAllBytes(local);
+        }
+
+        if (!fetchRemote || !isRemote(source)) {
+            return null;
+        }
+        URI uri = URI.create(source);
+        if (!isAllowedRemote(uri)) {
+            log.warn("허용되지 않은 썸네일 원본 주소입니다: {}", uri.getHost());
+            return null;
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .GET()
+                .build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    return null;
+                }
+                return readLimited(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    // 허용 목록의 호스트이고, 해석된 주소가 모두 공인 주소일 때만
+    // (허용 목록이 1차 방어 - 검사와 연결 사이의 DNS 변경까지 막지는 못한다)
+    private boolean isAllowedRemote(URI uri) throws IOException {
+        String host = uri.getHost();
+        if (host == null || uri.getUserInfo() != null
+                || !allowedHosts.contains(host.toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        for (InetAddress address : InetAddress.getAllByName(host)) {
+            if (isInternal(address)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isInternal(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet6Address) {
+            // fc00::/7 (unique local)
+            return (bytes[0] & 0xfe) == 0xfc;
+        }
+        // 100.64.0.0/10 (CGNAT)
+        return (bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64;
+    }
+
+    // 크기를 먼저 읽고 픽셀 수가 한도를 넘으면 디코딩하지 않는다 (작은 파일이 거대한 이미지로 풀리는 경우)
+    private BufferedImage decode(byte[] source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels <= 0 || pixels > maxSourcePixels) {
+                    throw new IOException("썸네일 원본 픽셀 수가 한도를 넘습니다: " + pixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private byte[] readLimited(InputStream body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            if (out.size() + read > maxSourceBytes) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    // 저장소 기준 상대 경로이고 images/ 아래일 때만 로컬 파일로 본다
+    private Path resolveLocal(String source) {
+        if (source == null || source.isBlank() || source.contains("://")) {
+            return null;
+        }
+        String relative = source.startsWith("/") ? source.substring(1) : source;
+        Path path = storageRoot.resolve(relative).normalize();
+        return path.startsWith(imageRoot) ? path : null;
+    }
+
+    private static boolean isRemote(String source) {
+        return source.startsWith("http://") || source.startsWith("https://");
+    }
+
+    private boolean allVariantsExist(String hash) {
+        return WIDTHS.stream().allMatch(width -> Files.isRegularFile(variantFile(hash, width)));
+    }
+
+    private Path variantFile(String hash, int width) {
+        return thumbnailRoot.resolve(hash).resolve(width + ".jpg");
+    }
+
+    // 원본보다 크게 늘리지 않고, 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인다
+    private BufferedImage scale(BufferedImage source, int width) {
+        int targetWidth = Math.min(width, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        while (currentWidth / 2 >= targetWidth) {
+            currentWidth /= 2;
+            currentHeight = Math.max(1, currentHeight / 2);
+            current = resize(current, currentWidth, currentHeight);
+        }
+        if (currentWidth != targetWidth || current == source) {
+            current = resize(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    // JPEG는 투명도가 없으므로 흰 배경 위에 그린다
+    private BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 임시 파일에 쓰고 이름을 바꿔서 반쯤 쓰인 파일이 응답되지 않게
+    private void writeVariant(BufferedImage image, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp-" + UUID.randomUUID());
+        try {
+            if (!ImageIO.write(image, "jpg", temp.toFile())) {
+                throw new IOException("JPEG writer를 찾을 수 없습니다");
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 원본 내용 해시 (앞 16바이트만 사용 - 파일 이름/URL 버전용)
+    private String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static final class ThumbnailState {
+        private final String source;
+        private final AtomicReference<String> hash = new AtomicReference<>();  // setHash로만 교체
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private ThumbnailState(String source) {
+            this.source = source != null ? source : "";
+        }
+    }
+
+    // 썸네일 요청 결과 - 준비된 변형 파일, 로컬 원본, 외부 원본으로 리다이렉트 중 하나
+    @Getter
+    public static final class Thumbnail {
+
+        public enum Type {
+            READY,
+            ORIGINAL,
+            REDIRECT
+        }
+
+        private final Type type;
+        private final Path file;
+        private final String version;
+        private final String location;
+
+        private Thumbnail(Type type, Path file, String version, String location) {
+            this.type = type;
+            this.file = file;
+            this.version = version;
+            this.location = location;
+        }
+
+        static Thumbnail ready(Path file, String version, String versionedUrl) {
+            return new Thumbnail(Type.READY, file, version, versionedUrl);
+        }
+
+        static Thumbnail original(Path file) {
+            return new Thumbnail(Type.ORIGINAL, file, null, null);
+        }
+
+        static Thumbnail redirect(String location) {
+            return new Thumbnail(Type.REDIRECT, null, null, location);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,369 @@
+package com.learnsnap.service;
+
+import com.learnsnap.config.ReplicaRoutingDataSource;
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.event.VideosImportedEvent;
+import com.learnsnap.repository.VideoRepository;
+import com.learnsnap.repository.VideoTrendingSeed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 시간 감쇠 인기 순위 (전체 / 카테고리별 상위 K개)
+// 점수 = Σ exp(-λ(now - 조회 시각)), 반감기가 지날 때마다 절반이 된다
+// 모든 비디오에 공통인 exp(-λ·now)를 빼고 exp(λ(조회 시각 - 기준 시각))만 누적하므로
+// 시간이 지나도 점수를 다시 계산할 필요가 없다 (순위는 그대로 비교 가능)
+@Slf4j
+@Component
+public class TrendingLeaderboard implements SmartInitializingSingleton {
+
+    // 가중치 지수가 이 값을 넘으면 기준 시각을 현재로 옮긴다 (double 범위 보호)
+    private static final double REBASE_EXPONENT = 50.0;
+    // 일괄 등록 반영 시 한 번에 읽는 ID 범위
+    private static final long IMPORT_CHUNK_IDS = 10_000;
+
+    private final VideoRepository videoRepository;
+    private final int topK;
+    private final double decayPerMilli;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 점수 누적(read lock)과 기준 시각 이동(write lock)이 겹치지 않도록
+    private final ReentrantReadWriteLock baseLock = new ReentrantReadWriteLock();
+    // 스케줄러, 삭제, 재구축에서 스냅샷 교체가 겹치지 않도록
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private volatile long baseMillis;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public TrendingLeaderboard(VideoRepository videoRepository,
+                               @Value("${learnsnap.trending.top-k:100}") int topK,
+                               @Value("${learnsnap.trending.half-life-hours:24}") double halfLifeHours) {
+        this.videoRepository = videoRepository;
+        this.topK = topK;
+        this.decayPerMilli = Math.log(2) / (halfLifeHours * 60 * 60 * 1000);
+        this.baseMillis = System.currentTimeMillis();
+    }
+
+    // 웹 서버가 요청을 받기 전에 DB에서 구축
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // 전체 재구축 - DB에는 누적 조회수만 있으므로 생성 시각부터 지금까지 고르게 조회된 것으로 본다 (seedScore)
+    public void rebuild() {
+        List<VideoTrendingSeed> seeds = videoRepository.findAllTrendingSeeds();
+
+        baseLock.writeLock().lock();
+        try {
+            entries.clear();
+            baseMillis = System.currentTimeMillis();
+            for (VideoTrendingSeed seed : seeds) {
+                Entry entry = new Entry(seed.getId(), seed.getCategoryId());
+                entry.score.add(seedScore(seed, baseMillis));
+                entries.put(entry.videoId, entry);
+            }
+        } finally {
+            baseLock.writeLock().unlock();
+        }
+
+        refresh();
+        log.info("인기 순위 구축 완료: 비디오 {}개", seeds.size());
+    }
+
+    // 조회 1회 반영 (다음 스냅샷부터 순위에 반영)
+    public void record(Long videoId) {
+        Entry entry = entries.get(videoId);
+        if (entry == null) {
+            return;
+        }
+
+        baseLock.readLock().lock();
+        try {
+            entry.score.add(weight(System.currentTimeMillis()));
+        } finally {
+            baseLock.readLock().unlock();
+        }
+    }
+
+    // 커밋된 비디오 변경만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                Long categoryId = event.getVideo().getCategory().getId();
+                entries.computeIfAbsent(event.getVideoId(), id -> new Entry(id, categoryId)).categoryId = categoryId;
+            }
+            case DELETED -> remove(event.getVideoId());
+        }
+    }
+
+    // 일괄 등록된 ID 범위의 비디오만 추가 - 이미 있는 비디오의 누적 점수는 그대로 둔다 (작업 스레드에서, primary에서 읽음)
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideosImported(VideosImportedEvent event) {
+        int added = 0;
+        for (long from = event.getFirstId(); from <= event.getLastId(); from += IMPORT_CHUNK_IDS) {
+            long to = Math.min(event.getLastId(), from + IMPORT_CHUNK_IDS - 1);
+            long first = from;
+            List<VideoTrendingSeed> seeds = ReplicaRoutingDataSource.onPrimary(
+                    () -> videoRepository.findTrendingSeedsByIdBetween(first, to));
+
+            baseLock.readLock().lock();
+            try {
+                long now = System.currentTimeMillis();
+                for (VideoTrendingSeed seed : seeds) {
+                    if (entries.containsKey(seed.getId())) {
+                        continue;
+                    }
+                    Entry entry = new Entry(seed.getId(), seed.getCategoryId());
+                    entry.score.add(seedScore(seed, now));
+                    if (entries.putIfAbsent(entry.videoId, entry) == null) {
+                        added++;
+                    }
+                }
+            } finally {
+                baseLock.readLock().unlock();
+            }
+        }
+
+        refresh();
+        log.info("인기 순위에 일괄 등록 비디오 추가: {}개", added);
+    }
+
+    // 전체 상위 limit개 비디오 ID (K개까지만 유지하므로 limit은 1~K - 호출하는 쪽에서 검증)
+    public List<Long> top(int limit) {
+        return head(snapshot.global, limit);
+    }
+
+    // 카테고리 상위 limit개 비디오 ID (limit은 1~K)
+    public List<Long> topByCategory(Long categoryId, int limit) {
+        return head(snapshot.byCategory.get(categoryId), limit);
+    }
+
+    // 삭제된 비디오 - 점수를 지우고 현재 스냅샷에서만 뺀다 (전체 재계산 없음)
+    // 빈 자리는 다음 주기의 refresh가 채운다 (그때까지는 K개보다 적을 수 있음)
+    public void remove(Long videoId) {
+        Entry removed = entries.remove(videoId);
+        if (removed == null) {
+            return;
+        }
+
+        refreshLock.lock();
+        try {
+            Snapshot current = snapshot;
+            Snapshot without = current.without(videoId, removed.categoryId);
+            if (without != current) {
+                snapshot = without;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // 순위가 바뀔 때마다 증가하는 스냅샷 버전
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    // 점수를 읽어 전체/카테고리별 상위 K개 스냅샷 생성 (크기 K인 최소 힙)
+    @Scheduled(fixedDelayString = "${learnsnap.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            if (decayPerMilli * (now - baseMillis) > REBASE_EXPONENT) {
+                rebase(now);
+            }
+
+            TopK global = new TopK(topK);
+            Map<Long, TopK> byCategory = new HashMap<>();
+            for (Entry entry : entries.values()) {
+                double score = entry.score.sum();
+                global.offer(entry.videoId, score);
+                if (entry.categoryId != null) {
+                    byCategory.computeIfAbsent(entry.categoryId, id -> new TopK(topK))
+                            .offer(entry.videoId, score);
+                }
+            }
+
+            Map<Long, long[]> categoryRankings = new HashMap<>();
+            byCategory.forEach((categoryId, ranking) -> categoryRankings.put(categoryId, ranking.toSortedIds()));
+            long[] globalRanking = global.toSortedIds();
+
+            // 순위가 그대로면 스냅샷(버전)을 유지 - 인기 목록 응답 캐시/ETag가 계속 유효하도록
+            Snapshot current = snapshot;
+            if (!current.sameRanking(globalRanking, categoryRankings)) {
+                snapshot = new Snapshot(current.version + 1, globalRanking, categoryRankings);
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 기준 시각을 now로 옮기고 모든 점수를 같은 비율로 줄인다 (순위는 변하지 않음)
+    private void rebase(long now) {
+        baseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-decayPerMilli * (now - baseMillis));
+            for (Entry entry : entries.values()) {
+                double score = entry.score.sumThenReset();
+                entry.score.add(score * factor);
+            }
+            baseMillis = now;
+        } finally {
+            baseLock.writeLock().unlock();
+        }
+        log.debug("인기 순위 기준 시각 이동");
+    }
+
+    private double weight(long viewedAtMillis) {
+        return Math.exp(decayPerMilli * (viewedAtMillis - baseMillis));
+    }
+
+    // 누적 조회수 V가 생성 시각 c부터 now까지 고르게 발생했다고 보고 가중치를 적분한 값
+    // V/(now-c) ∫ exp(λ(t-base)) dt = V·weight(now)·(1 - e^(-λ·age))/(λ·age)
+    // 생성 시각에 한꺼번에 몰아 두면 오래전에 올라와 꾸준히 조회되는 비디오가 실제보다 크게 밀린다
+    private double seedScore(VideoTrendingSeed seed, long now) {
+        long createdAt = seed.getCreatedAt() != null ? toMillis(seed.getCreatedAt()) : now;
+        double decayed = decayPerMilli * Math.max(0L, now - createdAt);
+        double spread = decayed < 1e-9 ? 1.0 : -Math.expm1(-decayed) / decayed;
+        return seed.getViewsCount() * weight(now) * spread;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private List<Long> head(long[] ranking, int limit) {
+        if (ranking == null || limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(Math.min(limit, topK), ranking.length);
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(ranking[i]);
+        }
+        return ids;
+    }
+
+    private static final class Entry {
+        private final Long videoId;
+        private volatile Long categoryId;
+        private final DoubleAdder score = new DoubleAdder();
+
+        private Entry(Long videoId, Long categoryId) {
+            this.videoId = videoId;
+            this.categoryId = categoryId;
+        }
+    }
+
+    // 점수 높은 순 상위 K개 (같으면 최신 id 순)
+    private static final class TopK {
+        private final int capacity;
+        private final PriorityQueue<Ranked> heap;
+
+        private TopK(int capacity) {
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>();
+        }
+
+        private void offer(Long videoId, double score) {
+            if (capacity <= 0) {
+                return;
+            }
+            Ranked ranked = new Ranked(videoId, score);
+            if (heap.size() < capacity) {
+                heap.add(ranked);
+            } else if (ranked.compareTo(heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+
+        private long[] toSortedIds() {
+            Ranked[] ranked = heap.toArray(new Ranked[0]);
+            Arrays.sort(ranked);
+            long[] ids = new long[ranked.length];
+            for (int i = 0; i < ranked.length; i++) {
+                ids[i] = ranked[ranked.length - 1 - i].videoId;
+            }
+            return ids;
+        }
+    }
+
+    // 힙 정렬용 (낮은 점수가 앞)
+    private record Ranked(long videoId, double score) implements Comparable<Ranked> {
+        @Override
+        public int compareTo(Ranked other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Long.compare(videoId, other.videoId);
+        }
+    }
+
+    private record Snapshot(long version, long[] global, Map<Long, long[]> byCategory) {
+        private static final Snapshot EMPTY = new Snapshot(0L, new long[0], Map.of());
+
+        // videoId를 뺀 스냅샷 (순위에 없으면 그대로 this)
+        private Snapshot without(long videoId, Long categoryId) {
+            long[] category = categoryId != null ? byCategory.get(categoryId) : null;
+            long[] newGlobal = remove(global, videoId);
+            long[] newCategory = category != null ? remove(category, videoId) : null;
+            if (newGlobal == global && newCategory == category) {
+                return this;
+            }
+            Map<Long, long[]> newByCategory = byCategory;
+            if (newCategory != category) {
+                newByCategory = new HashMap<>(byCategory);
+                newByCategory.put(categoryId, newCategory);
+            }
+            return new Snapshot(version + 1, newGlobal, newByCategory);
+        }
+
+        private static long[] remove(long[] ranking, long videoId) {
+            for (int i = 0; i < ranking.length; i++) {
+                if (ranking[i] == videoId) {
+                    long[] removed = new long[ranking.length - 1];
+                    System.arraycopy(ranking, 0, removed, 0, i);
+                    System.arraycopy(ranking, i + 1, removed, i, ranking.length - i - 1);
+                    return removed;
+                }
+            }
+            return ranking;
+        }
+
+        private boolean sameRanking(long[] otherGlobal, Map<Long, long[]> otherByCategory) {
+            if (!Arrays.equals(global, otherGlobal) || byCategory.size() != otherByCategory.size()) {
+                return false;
+            }
+            for (Map.Entry<Long, long[]> entry : otherByCategory.entrySet()) {
+                if (!Arrays.equals(byCategory.get(entry.getKey()), entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
\ No newline at end of file
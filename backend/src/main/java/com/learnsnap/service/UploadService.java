@@ -0,0 +1,472 @@
+package com.learnsnap.service;
+
+import com.learnsnap.dto.UploadCompleteRequest;
+import com.learnsnap.dto.UploadInitRequest;
+import com.learnsnap.dto.UploadSessionResponse;
+import com.learnsnap.dto.VideoRequest;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.exception.InvalidUploadException;
+import com.learnsnap.exception.UnauthorizedAccessException;
+import com.learnsnap.exception.UploadNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 이어 올리기가 가능한 파트 단위 업로드 (init -> 파트 업로드(병렬 가능) -> complete)
+// 파트는 요청 본문을 64KB 버퍼로 읽어 데이터 파일의 해당 위치에 바로 쓴다 - 파일 크기와 무관하게 메모리 사용량 일정
+// 세션 정보와 완료된 파트 표시는 디스크에 남기므로 서버가 재시작돼도 이어서 올릴 수 있다
+// 같은 파트를 동시에 올리거나, 파트를 쓰는 중에 complete 하는 것은 거절한다 (세션 락으로 확인)
+@Slf4j
+@Service
+public class UploadService {
+
+    private static final String DATA_FILE = "data";
+    private static final String MANIFEST_FILE = "manifest.properties";
+    private static final String PARTS_DIR = "parts";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_PART_SIZE = 1024 * 1024;
+    private static final int MAX_PART_SIZE = 64 * 1024 * 1024;
+    private static final int MAX_PART_COUNT = 10_000;
+
+    private static final Pattern UPLOAD_ID = Pattern.compile("[0-9a-f\\-]{36}");
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-fA-F]{64}");
+    private static final Pattern EXTENSION = Pattern.compile("\\.[A-Za-z0-9]{1,10}$");
+
+    private final VideoService videoService;
+    private final Path storageRoot;
+    private final Path uploadRoot;
+    private final Path videoRoot;
+    private final int defaultPartSize;
+    private final long maxFileSize;
+    private final Duration expiry;
+
+    private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    public UploadService(VideoService videoService,
+                         @Value("${learnsnap.storage.root:./storage}") String storageRoot,
+                         @Value("${learnsnap.upload.part-size:8388608}") int defaultPartSize,
+                         @Value("${learnsnap.upload.max-file-size:10737418240}") long maxFileSize,
+                         @Value("${learnsnap.upload.expire-hours:24}") long expireHours) {
+        this.videoService = videoService;
+        this.storageRoot = Paths.get(storageRoot).toAbsolutePath().normalize();
+        this.uploadRoot = this.storageRoot.resolve("uploads");
+        this.videoRoot = this.storageRoot.resolve("videos");
+        this.defaultPartSize = defaultPartSize;
+        this.maxFileSize = maxFileSize;
+        this.expiry = Duration.ofHours(expireHours);
+    }
+
+    // 업로드 시작 - 데이터 파일을 전체 크기로 만들어 두고 파트 크기/개수를 정한다
+    public UploadSessionResponse initUpload(UploadInitRequest request, Long userId) {
+        long fileSize = request.getFileSize();
+        if (fileSize > maxFileSize) {
+            throw new InvalidUploadException("파일이 너무 큽니다 (최대 " + maxFileSize + "바이트)");
+        }
+
+        int partSize = request.getPartSize() != null ? request.getPartSize() : defaultPartSize;
+        partSize = Math.max(MIN_PART_SIZE, Math.min(partSize, MAX_PART_SIZE));
+        long partCount = (fileSize + partSize - 1) / partSize;
+        if (partCount > MAX_PART_COUNT) {
+            throw new InvalidUploadException("파트가 너무 많습니다. 파트 크기를 늘려주세요 (최대 " + MAX_PART_COUNT + "개)");
+        }
+
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), userId, request.getFileName(),
+                fileSize, partSize, (int) partCount, Instant.now());
+        try {
+            Files.createDirectories(session.directory(uploadRoot).resolve(PARTS_DIR));
+            try (FileChannel channel = FileChannel.open(session.directory(uploadRoot).resolve(DATA_FILE),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                // 마지막 바이트만 써서 전체 크기 확보 (sparse)
+                channel.write(ByteBuffer.wrap(new byte[1]), fileSize - 1);
+            }
+            writeManifest(session);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 준비 실패", e);
+        }
+
+        sessions.put(session.uploadId, session);
+        log.info("업로드 시작: {} ({}바이트, 파트 {}개)", session.uploadId, fileSize, partCount);
+        return toResponse(session);
+    }
+
+    // 파트 업로드 - 본문을 스트리밍으로 쓰면서 SHA-256 계산, 일치할 때만 완료 표시
+    public UploadSessionResponse uploadPart(String uploadId, int partNumber, String checksum,
+                                            InputStream body, Long userId) {
+        UploadSession session = getSession(uploadId, userId);
+        if (partNumber < 1 || partNumber > session.partCount) {
+            throw new InvalidUploadException("파트 번호는 1부터 " + session.partCount + "까지입니다");
+        }
+        if (checksum == null || !SHA256_HEX.matcher(checksum).matches()) {
+            throw new InvalidUploadException("X-Chunk-Checksum 헤더에 SHA-256(hex) 값이 필요합니다");
+        }
+
+        beginWrite(session, partNumber);
+        try {
+            writePart(session, partNumber, checksum, body);
+        } finally {
+            endWrite(session, partNumber);
+        }
+        return toResponse(session);
+    }
+
+    private void writePart(UploadSession session, int partNumber, String checksum, InputStream body) {
+        long offset = (long) (partNumber - 1) * session.partSize;
+        long expectedLength = Math.min(session.partSize, session.fileSize - offset);
+        Path parts = session.directory(uploadRoot).resolve(PARTS_DIR);
+
+        MessageDigest digest = sha256();
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(session.directory(uploadRoot).resolve(DATA_FILE),
+                StandardOpenOption.WRITE)) {
+            // 이미 완료된 파트를 다시 올리면 덮어쓰기 전에 완료 표시부터 지운다
+            // (검증에 실패하면 빠진 파트로 남아 다시 올리기 전에는 complete 되지 않는다)
+            session.uploadedParts.remove(partNumber);
+            Files.deleteIfExists(parts.resolve(partNumber + ".done"));
+
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (written + read > expectedLength) {
+                    throw new InvalidUploadException("파트 " + partNumber + "의 크기는 " + expectedLength + "바이트여야 합니다");
+                }
+                digest.update(buffer, 0, read);
+
+                // 위치 지정 쓰기 - 다른 파트를 쓰는 요청과 같은 파일을 동시에 써도 겹치지 않는다
+                wrapped.clear().limit(read);
+                long position = offset + written;
+                while (wrapped.hasRemaining()) {
+                    position += channel.write(wrapped, position);
+                }
+                written += read;
+            }
+
+            if (written != expectedLength) {
+                throw new InvalidUploadException("파트 " + partNumber + "의 크기는 " + expectedLength + "바이트여야 합니다");
+            }
+            String actual = HexFormat.of().formatHex(digest.digest());
+            if (!actual.equalsIgnoreCase(checksum)) {
+                throw new InvalidUploadException("파트 " + partNumber + "의 체크섬이 일치하지 않습니다");
+            }
+
+            // 데이터가 디스크에 내려간 뒤에 완료 표시 (재시작 후에도 믿을 수 있도록)
+            channel.force(false);
+            markPartDone(session, partNumber, actual);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파트 " + partNumber + " 저장 실패", e);
+        }
+
+        session.uploadedParts.add(partNumber);
+    }
+
+    // 파트 쓰기 시작 - complete 처리 중이거나 같은 파트를 이미 쓰는 중이면 거절
+    private void beginWrite(UploadSession session, int partNumber) {
+        session.lock.lock();
+        try {
+            if (session.completing.get()) {
+                throw new InvalidUploadException("이미 완료된 업로드입니다: " + session.uploadId);
+            }
+            if (!session.writingParts.add(partNumber)) {
+                throw new InvalidUploadException("파트 " + partNumber + "을(를) 올리는 중입니다");
+            }
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    private void endWrite(UploadSession session, int partNumber) {
+        session.lock.lock();
+        try {
+            session.writingParts.remove(partNumber);
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    // 업로드 상태 (이어 올리기용)
+    public UploadSessionResponse getStatus(String uploadId, Long userId) {
+        return toResponse(getSession(uploadId, userId));
+    }
+
+    // 모든 파트가 올라왔으면 파일을 저장소로 옮기고 VideoService로 비디오 생성
+    public VideoResponse completeUpload(String uploadId, UploadCompleteRequest request, String email, Long userId) {
+        UploadSession session = getSession(uploadId, userId);
+        // 쓰는 중인 파트가 없을 때만 완료 표시 - 이후의 파트 업로드는 beginWrite에서 거절된다
+        // (옮긴 뒤에도 열린 채널로 계속 쓰면 완료된 비디오 파일이 바뀐다)
+        session.lock.lock();
+        try {
+            if (session.completing.get()) {
+                throw new InvalidUploadException("이미 완료 처리 중인 업로드입니다: " + uploadId);
+            }
+            if (!session.writingParts.isEmpty()) {
+                throw new InvalidUploadException("올리는 중인 파트가 있습니다: " + session.writingParts);
+            }
+            int missing = session.partCount - session.uploadedParts.size();
+            if (missing > 0) {
+                throw new InvalidUploadException("아직 올라오지 않은 파트가 " + missing + "개 있습니다");
+            }
+            session.completing.set(true);
+        } finally {
+            session.lock.unlock();
+        }
+
+        Path source = session.directory(uploadRoot).resolve(DATA_FILE);
+        Path target = videoRoot.resolve(session.uploadId + extension(session.fileName));
+        try {
+            Files.createDirectories(videoRoot);
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            session.completing.set(false);
+            throw new UncheckedIOException("업로드 파일 이동 실패", e);
+        }
+
+        VideoRequest videoRequest = VideoRequest.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .videoUrl(storageRoot.relativize(target).toString().replace('\\', '/'))
+                .thumbnailUrl(request.getThumbnailUrl())
+                .duration(request.getDuration())
+                .difficultyLevel(request.getDifficultyLevel())
+                .categoryId(request.getCategoryId())
+                .build();
+
+        VideoResponse video;
+        try {
+            video = videoService.createVideo(videoRequest, email);
+        } catch (RuntimeException e) {
+            // 비디오 생성 실패(카테고리 없음 등) -> 파일을 되돌려 다시 complete 할 수 있게
+            try {
+                Files.move(target, source, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException moveBack) {
+                log.warn("업로드 파일 복구 실패: {}", moveBack.getMessage());
+            }
+            session.completing.set(false);
+            throw e;
+        }
+
+        sessions.remove(session.uploadId);
+        deleteDirectory(session.directory(uploadRoot));
+        log.info("업로드 완료: {} -> 비디오 {}", session.uploadId, video.getId());
+        return video;
+    }
+
+    // 오래된 미완료 업로드 정리
+    @Scheduled(fixedDelayString = "${learnsnap.upload.cleanup-interval-ms:3600000}")
+    public void cleanupExpired() {
+        if (!Files.isDirectory(uploadRoot)) {
+            return;
+        }
+        Instant threshold = Instant.now().minus(expiry);
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(uploadRoot)) {
+            for (Path directory : directories) {
+                String uploadId = directory.getFileName().toString();
+                UploadSession active = sessions.get(uploadId);
+                if (active != null && (active.completing.get() || !active.writingParts.isEmpty())) {
+                    continue;
+                }
+                UploadSession session = active != null ? active : readManifest(directory);
+                // manifest가 없으면 디렉터리 수정 시각으로 - 막 만들어져 manifest를 아직 쓰지 않은 업로드는 남긴다
+                Instant createdAt = session != null ? session.createdAt : lastModified(directory);
+                if (createdAt.isBefore(threshold)) {
+                    sessions.remove(uploadId);
+                    deleteDirectory(directory);
+                    log.info("만료된 업로드 삭제: {}", directory.getFileName());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("업로드 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 읽을 수 없으면(이미 지워졌으면) 지금 - 이번 정리에서는 건너뛴다
+    private static Instant lastModified(Path directory) {
+        try {
+            return Files.getLastModifiedTime(directory).toInstant();
+        } catch (IOException e) {
+            return Instant.now();
+        }
+    }
+
+    // 메모리에 없으면 디스크의 manifest에서 복원 (재시작 후 이어 올리기)
+    private UploadSession getSession(String uploadId, Long userId) {
+        if (uploadId == null || !UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new UploadNotFoundException("업로드를 찾을 수 없습니다: " + uploadId);
+        }
+
+        // manifest 읽기는 computeIfAbsent 밖에서 - 맵 버킷 락(synchronized) 안에서 파일 I/O를 하면
+        // 가상 스레드가 캐리어 스레드에 고정되고 같은 버킷의 다른 업로드도 기다린다
+        UploadSession session = sessions.get(uploadId);
+        if (session == null) {
+            UploadSession restored = readManifest(uploadRoot.resolve(uploadId));
+            if (restored != null) {
+                UploadSession existing = sessions.putIfAbsent(uploadId, restored);
+                session = existing != null ? existing : restored;
+            }
+        }
+        if (session == null) {
+            throw new UploadNotFoundException("업로드를 찾을 수 없습니다: " + uploadId);
+        }
+        if (!session.ownerId.equals(userId)) {
+            throw new UnauthorizedAccessException("이 업로드에 접근할 권한이 없습니다");
+        }
+        return session;
+    }
+
+    private void writeManifest(UploadSession session) throws IOException {
+        Properties manifest = new Properties();
+        manifest.setProperty("uploadId", session.uploadId);
+        manifest.setProperty("ownerId", String.valueOf(session.ownerId));
+        manifest.setProperty("fileName", session.fileName);
+        manifest.setProperty("fileSize", String.valueOf(session.fileSize));
+        manifest.setProperty("partSize", String.valueOf(session.partSize));
+        manifest.setProperty("partCount", String.valueOf(session.partCount));
+        manifest.setProperty("createdAt", session.createdAt.toString());
+
+        try (Writer writer = Files.newBufferedWriter(session.directory(uploadRoot).resolve(MANIFEST_FILE),
+                StandardCharsets.UTF_8)) {
+            manifest.store(writer, null);
+        }
+    }
+
+    private UploadSession readManifest(Path directory) {
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        if (!Files.isRegularFile(manifestFile)) {
+            return null;
+        }
+
+        Properties manifest = new Properties();
+        try (Reader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            manifest.load(reader);
+
+            UploadSession session = new UploadSession(
+                    manifest.getProperty("uploadId"),
+                    Long.valueOf(manifest.getProperty("ownerId")),
+                    manifest.getProperty("fileName"),
+                    Long.parseLong(manifest.getProperty("fileSize")),
+                    Integer.parseInt(manifest.getProperty("partSize")),
+                    Integer.parseInt(manifest.getProperty("partCount")),
+                    Instant.parse(manifest.getProperty("createdAt")));
+
+            try (DirectoryStream<Path> parts = Files.newDirectoryStream(directory.resolve(PARTS_DIR), "*.done")) {
+                for (Path part : parts) {
+                    String name = part.getFileName().toString();
+                    session.uploadedParts.add(Integer.parseInt(name.substring(0, name.length() - ".done".length())));
+                }
+            }
+            return session;
+        } catch (IOException | RuntimeException e) {
+            log.warn("업로드 정보를 읽을 수 없습니다: {} ({})", directory.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    // 완료 표시 파일 (내용은 체크섬) - 임시 파일에 쓰고 이름을 바꿔서 반쯤 쓰인 표시가 남지 않게
+    private void markPartDone(UploadSession session, int partNumber, String checksum) throws IOException {
+        Path parts = session.directory(uploadRoot).resolve(PARTS_DIR);
+        Path temp = parts.resolve(partNumber + ".tmp-" + UUID.randomUUID());
+        Files.writeString(temp, checksum, StandardCharsets.US_ASCII);
+        Files.move(temp, parts.resolve(partNumber + ".done"),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void deleteDirectory(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("업로드 디렉터리 삭제 실패: {} ({})", directory, e.getMessage());
+        }
+    }
+
+    private UploadSessionResponse toResponse(UploadSession session) {
+        List<Integer> uploaded = new ArrayList<>(session.uploadedParts);
+        uploaded.sort(Comparator.naturalOrder());
+
+        return UploadSessionResponse.builder()
+                .uploadId(session.uploadId)
+                .fileName(session.fileName)
+                .fileSize(session.fileSize)
+                .partSize(session.partSize)
+                .partCount(session.partCount)
+                .uploadedParts(uploaded)
+                .build();
+    }
+
+    private String extension(String fileName) {
+        Matcher matcher = EXTENSION.matcher(fileName);
+        return matcher.find() ? matcher.group().toLowerCase() : "";
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static final class UploadSession {
+        private final String uploadId;
+        private final Long ownerId;
+        private final String fileName;
+        private final long fileSize;
+        private final int partSize;
+        private final int partCount;
+        private final Instant createdAt;
+        private final Set<Integer> uploadedParts = ConcurrentHashMap.newKeySet();
+        private final Set<Integer> writingParts = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean completing = new AtomicBoolean();
+        // completing 설정과 writingParts 추가가 겹치지 않도록
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private UploadSession(String uploadId, Long ownerId, String fileName, long fileSize,
+                              int partSize, int partCount, Instant createdAt) {
+            this.uploadId = uploadId;
+            this.ownerId = ownerId;
+            this.fileName = fileName;
+            this.fileSize = fileSize;
+            this.partSize = partSize;
+            this.partCount = partCount;
+            this.createdAt = createdAt;
+        }
+
+        private Path directory(Path uploadRoot) {
+            return uploadRoot.resolve(uploadId);
+        }
+    }
+}
\ No newline at end of file
@@ -1,34 +1,45 @@
 package com.learnsnap.service;
 
+import com.learnsnap.domain.user.Role;
 import com.learnsnap.domain.user.User;
+import com.learnsnap.dto.ChangePasswordRequest;
 import com.learnsnap.dto.UpdateProfileRequest;
 import com.learnsnap.dto.UserResponse;
+import com.learnsnap.event.UserLikesDeletedEvent;
+import com.learnsnap.event.UserProfileChangedEvent;
+import com.learnsnap.event.UserTokensRevokedEvent;
+import com.learnsnap.exception.InvalidCredentialsException;
+import com.learnsnap.exception.UserHasVideosException;
+import com.learnsnap.exception.UserNotFoundException;
 import com.learnsnap.repository.UserRepository;
+import com.learnsnap.repository.VideoLikeRepository;
+import com.learnsnap.repository.VideoRepository;
+import com.learnsnap.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
+    private final VideoRepository videoRepository;
+    private final VideoLikeRepository videoLikeRepository;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getCurrentUser(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        return UserResponse.builder()
-                .id(user.getId())
-                .email(user.getEmail())
-                .username(user.getUsername())
-                .role(user.getRole())
-                .profileImage(user.getProfileImage())
-                .bio(user.getBio())
-                .createdAt(user.getCreatedAt())
-                .build();
+        return toResponse(user);
     }
 
     // 프로필 업데이트 메서드 
@@ -55,8 +66,76 @@ public class UserService {
 
         // 3. 저장 (JPA dirty checking으로 자동 저장됨)
         // userRepository.save(user); // @Transactional이 있어서 생략 가능
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
 
         // 4. Response 반환
+        return toResponse(user);
+    }
+
+    // 비밀번호 변경 - 이전에 발급된 토큰은 모두 무효 (다시 로그인 필요)
+    // 로그인과 같은 이유로 트랜잭션을 열지 않는다 (해시 계산 동안 DB 커넥션을 잡고 있지 않도록)
+    public void changePassword(String email, ChangePasswordRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
+
+        if (!passwordHasher.matches(request.getCurrentPassword(), user.getPassword())) {
+            throw new InvalidCredentialsException("현재 비밀번호가 올바르지 않습니다");
+        }
+
+        // 확인한 뒤 다른 요청이 먼저 비밀번호를 바꿨으면 실패
+        String newHash = passwordHasher.encode(request.getNewPassword());
+        if (userRepository.changePassword(user.getId(), user.getPassword(), newHash) == 0) {
+            throw new InvalidCredentialsException("현재 비밀번호가 올바르지 않습니다");
+        }
+
+        // 그사이 권한 변경으로 버전이 더 올라갔을 수 있으므로 DB에서 다시 읽는다
+        int tokenVersion = userRepository.findTokenVersionById(user.getId())
+                .orElse(UserTokensRevokedEvent.DELETED);
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(user.getId(), tokenVersion));
+    }
+
+    // 권한 변경 (관리자) - 이전 권한으로 발급된 토큰은 커밋 후 무효
+    @Transactional
+    public UserResponse changeRole(Long userId, Role role) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+        if (user.getRole() != role) {
+            user.changeRole(role);
+            eventPublisher.publishEvent(new UserTokensRevokedEvent(user.getId(), user.getTokenVersion()));
+        }
+
+        return toResponse(user);
+    }
+
+    // 사용자 삭제 (관리자) - 비디오가 있는 강사는 비디오를 먼저 정리해야 한다
+    // 삭제 기록, 좋아요 정리, 사용자 행 삭제를 한 트랜잭션으로 - 중간에 실패하면 아무것도 지워지지 않는다
+    // 사용자 행을 먼저 잠가서 정리하는 동안 새 좋아요가 끼어들지 못하게 하고(커밋 후에는 외래 키 위반),
+    // 토큰 폐기와 좋아요 수/비트맵 반영은 커밋된 뒤에만 (이벤트)
+    @Transactional
+    public void deleteUser(Long userId) {
+        User user = userRepository.findForUpdateById(userId)
+                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+        if (videoRepository.existsByInstructorId(userId)) {
+            throw new UserHasVideosException("비디오가 있는 사용자는 삭제할 수 없습니다: " + userId);
+        }
+
+        // 재시작 후에도 남은 토큰을 거절하도록 DB에 기록
+        userRepository.insertDeletedUser(userId);
+
+        List<Long> unliked = new ArrayList<>();
+        for (Long videoId : videoLikeRepository.findVideoIdsByUserId(userId)) {
+            if (videoLikeRepository.deleteByVideoIdAndUserId(videoId, userId) > 0) {
+                unliked.add(videoId);
+            }
+        }
+        userRepository.delete(user);
+
+        eventPublisher.publishEvent(new UserTokensRevokedEvent(userId, UserTokensRevokedEvent.DELETED));
+        eventPublisher.publishEvent(new UserLikesDeletedEvent(userId, unliked));
+    }
+
+    private UserResponse toResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
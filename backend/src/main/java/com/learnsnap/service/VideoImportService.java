@@ -0,0 +1,333 @@
+package com.learnsnap.service;
+
+import com.learnsnap.domain.video.DifficultyLevel;
+import com.learnsnap.domain.video.Video;
+import com.learnsnap.dto.VideoImportResponse;
+import com.learnsnap.dto.VideoImportRow;
+import com.learnsnap.event.VideosImportedEvent;
+import com.learnsnap.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 비디오 일괄 등록 (NDJSON/CSV 스트리밍 -> 검증 -> JDBC 배치 INSERT)
+// 카테고리/강사는 시작할 때 한 번 메모리 맵으로 읽어 두고, ID는 videos_seq에서 블록 단위로 받아 직접 채운다
+// 행마다 엔티티/이벤트를 만들지 않으므로 끝난 뒤 VideosImportedEvent 한 번으로 메모리 구조를 맞춘다
+@Slf4j
+@Service
+public class VideoImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO videos "
+            + "(id, title, description, video_url, thumbnail_url, duration, difficulty_level, "
+            + "category_id, instructor_id, views_count, likes_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+
+    // 응답에 담는 거부 사유 최대 개수
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonMapper jsonMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public VideoImportService(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              JsonMapper jsonMapper,
+                              Validator validator,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${learnsnap.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonMapper = jsonMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    // NDJSON - 한 줄에 VideoImportRow 하나 (빈 줄 무시)
+    public VideoImportResponse importNdjson(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = open(input)) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.add(lineNumber, jsonMapper.readValue(line, VideoImportRow.class));
+                } catch (JacksonException e) {
+                    run.reject(lineNumber, "JSON 형식 오류");
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    // CSV - 첫 레코드는 헤더 (VideoImportRow 필드 이름, 순서 무관)
+    public VideoImportResponse importCsv(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = open(input)) {
+            CsvReader csv = new CsvReader(reader);
+            List<String> header = csv.next();
+            if (header == null) {
+                return run.finish();
+            }
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+
+            List<String> fields;
+            while ((fields = csv.next()) != null) {
+                long recordNumber = csv.getRecordNumber();
+                try {
+                    run.add(recordNumber, toRow(columns, fields));
+                } catch (IllegalArgumentException e) {
+                    // 숫자/난이도 변환 실패
+                    run.reject(recordNumber, e.getMessage());
+                }
+            }
+        }
+        return run.finish();
+    }
+
+    private static BufferedReader open(InputStream input) {
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+    }
+
+    private static VideoImportRow toRow(Map<String, Integer> columns, List<String> fields) {
+        String duration = column(columns, fields, "duration");
+        String difficultyLevel = column(columns, fields, "difficultyLevel");
+
+        Integer parsedDuration;
+        try {
+            parsedDuration = duration != null ? Integer.valueOf(duration) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("재생 시간은 숫자여야 합니다");
+        }
+        DifficultyLevel parsedLevel;
+        try {
+            parsedLevel = difficultyLevel != null ? DifficultyLevel.valueOf(difficultyLevel.toUpperCase(Locale.ROOT)) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 난이도: " + difficultyLevel);
+        }
+
+        return VideoImportRow.builder()
+                .title(column(columns, fields, "title"))
+                .description(column(columns, fields, "description"))
+                .videoUrl(column(columns, fields, "videoUrl"))
+                .thumbnailUrl(column(columns, fields, "thumbnailUrl"))
+                .duration(parsedDuration)
+                .difficultyLevel(parsedLevel)
+                .categorySlug(column(columns, fields, "categorySlug"))
+                .instructorEmail(column(columns, fields, "instructorEmail"))
+                .build();
+    }
+
+    // 없는 컬럼이나 빈 값은 null
+    private static String column(Map<String, Integer> columns, List<String> fields, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 카테고리 slug -> ID
+    private Map<String, Long> loadCategories() {
+        Map<String, Long> categories = new HashMap<>();
+        jdbcTemplate.query("SELECT slug, id FROM categories",
+                rs -> { categories.put(rs.getString(1), rs.getLong(2)); });
+        return categories;
+    }
+
+    // 강사(관리자 포함) 이메일 -> ID
+    private Map<String, Long> loadInstructors() {
+        Map<String, Long> instructors = new HashMap<>();
+        jdbcTemplate.query("SELECT email, id FROM users WHERE role IN ('INSTRUCTOR', 'ADMIN')",
+                rs -> { instructors.put(rs.getString(1), rs.getLong(2)); });
+        return instructors;
+    }
+
+    // 요청 하나의 진행 상태 (요청 스레드 하나에서만 사용)
+    private final class ImportRun {
+
+        private final Map<String, Long> categories = loadCategories();
+        private final Map<String, Long> instructors = loadInstructors();
+        private final IdBlocks ids = new IdBlocks();
+
+        private final List<Object[]> batch = new ArrayList<>(batchSize);
+        private long firstRowInBatch;
+        private long lastRowInBatch;
+
+        private final List<String> errors = new ArrayList<>();
+        private long imported;
+        // 등록에 성공한 행의 ID 범위 (VideosImportedEvent로 전달)
+        private long firstId = Long.MAX_VALUE;
+        private long lastId = Long.MIN_VALUE;
+        private long rejected;
+        private final long startedAt = System.nanoTime();
+
+        private void add(long rowNumber, VideoImportRow row) {
+            Set<ConstraintViolation<VideoImportRow>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                reject(rowNumber, violations.iterator().next().getMessage());
+                return;
+            }
+            Long categoryId = categories.get(row.getCategorySlug());
+            if (categoryId == null) {
+                reject(rowNumber, "카테고리를 찾을 수 없습니다: " + row.getCategorySlug());
+                return;
+            }
+            Long instructorId = instructors.get(row.getInstructorEmail());
+            if (instructorId == null) {
+                reject(rowNumber, "강사를 찾을 수 없습니다: " + row.getInstructorEmail());
+                return;
+            }
+
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            if (batch.isEmpty()) {
+                firstRowInBatch = rowNumber;
+            }
+            lastRowInBatch = rowNumber;
+            // ID는 flush 때 채운다 (0번 칸)
+            batch.add(new Object[]{
+                    null, row.getTitle(), row.getDescription(), row.getVideoUrl(), row.getThumbnailUrl(),
+                    row.getDuration(), row.getDifficultyLevel().name(), categoryId, instructorId, now, now
+            });
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void reject(long rowNumber, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(rowNumber + ": " + reason);
+            }
+        }
+
+        // 배치 하나 = 트랜잭션 하나 (실패하면 그 배치만 거부로 집계하고 계속)
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            ids.reserve(batch.size());
+            for (Object[] args : batch) {
+                args[0] = ids.next();
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+                for (Object[] args : batch) {
+                    firstId = Math.min(firstId, (Long) args[0]);
+                    lastId = Math.max(lastId, (Long) args[0]);
+                }
+                long before = imported;
+                imported += batch.size();
+                if (imported / PROGRESS_LOG_INTERVAL != before / PROGRESS_LOG_INTERVAL) {
+                    log.info("비디오 일괄 등록 진행: {}행 ({}행/초)", imported, Math.round(rowsPerSecond()));
+                }
+            } catch (DataAccessException e) {
+                log.warn("비디오 일괄 등록 배치 실패: 행 {}-{}", firstRowInBatch, lastRowInBatch, e);
+                rejected += batch.size();
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(firstRowInBatch + "-" + lastRowInBatch + ": 저장 실패");
+                }
+            }
+            batch.clear();
+        }
+
+        private VideoImportResponse finish() {
+            flush();
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            double rowsPerSecond = rowsPerSecond();
+
+            if (imported > 0) {
+                eventPublisher.publishEvent(new VideosImportedEvent(imported, firstId, lastId));
+            }
+            log.info("비디오 일괄 등록 완료: {}행 등록, {}행 거부, {}ms ({}행/초)",
+                    imported, rejected, elapsedMillis, Math.round(rowsPerSecond));
+
+            return VideoImportResponse.builder()
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .elapsedMillis(elapsedMillis)
+                    .rowsPerSecond(rowsPerSecond)
+                    .build();
+        }
+
+        private double rowsPerSecond() {
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            return seconds > 0 ? imported / seconds : 0.0;
+        }
+    }
+
+    // videos_seq에서 받은 ID 블록 (Hibernate pooled 최적화와 같은 규칙: nextval 값 hi -> hi-49..hi 사용)
+    private final class IdBlocks {
+
+        private final ArrayDeque<Long> his = new ArrayDeque<>();
+        private long next = 1;
+        private long hi = 0;
+
+        // count개 이상 남도록 필요한 블록을 한 번의 조회로 확보
+        private void reserve(int count) {
+            while (available() < count) {
+                long missing = count - available();
+                int blocks = (int) ((missing + Video.ID_ALLOCATION_SIZE - 1) / Video.ID_ALLOCATION_SIZE);
+                List<Long> values = jdbcTemplate.queryForList(
+                        "SELECT nextval(?::regclass) FROM generate_series(1, ?)",
+                        Long.class, Video.ID_SEQUENCE, blocks);
+                for (Long value : values) {
+                    // 새 시퀀스의 첫 값(1)은 Hibernate가 1..51로 쓰는 경우가 있으므로 버린다
+                    if (value - Video.ID_ALLOCATION_SIZE + 1 >= 1) {
+                        his.add(value);
+                    }
+                }
+            }
+        }
+
+        private long next() {
+            if (next > hi) {
+                hi = his.remove();
+                next = hi - Video.ID_ALLOCATION_SIZE + 1;
+            }
+            return next++;
+        }
+
+        private long available() {
+            return (hi - next + 1) + (long) his.size() * Video.ID_ALLOCATION_SIZE;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.repository.VideoLikeRepository;
+import com.learnsnap.util.LruCache;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 비디오별 "좋아요한 사용자" 압축 비트맵 (최근 사용된 비디오만 메모리에 유지)
+// 비트맵은 DB(video_likes)의 캐시 - 변경은 DB 커밋 후에만 반영한다
+@Component
+public class VideoLikeIndex {
+
+    private final VideoLikeRepository videoLikeRepository;
+    private final LruCache<Long, LikedUsers> likedUsers;
+
+    public VideoLikeIndex(VideoLikeRepository videoLikeRepository,
+                          @Value("${learnsnap.likes.cache-size:10000}") int cacheSize) {
+        this.videoLikeRepository = videoLikeRepository;
+        this.likedUsers = new LruCache<>(cacheSize);
+    }
+
+    // 사용자가 이 비디오를 좋아요 했는지 (캐시에 없으면 DB에서 비트맵 적재)
+    public boolean hasLiked(Long videoId, Long userId) {
+        return likedUsers.getOrLoad(videoId, this::load).contains(userId);
+    }
+
+    // DB에 좋아요가 추가된 뒤 호출
+    public void added(Long videoId, Long userId) {
+        LikedUsers users = likedUsers.get(videoId);
+        if (users != null) {
+            users.add(userId);
+        } else {
+            // 적재 중인 비트맵이 있으면 이 변경 전의 결과일 수 있으므로 버리게 한다
+            likedUsers.remove(videoId);
+        }
+    }
+
+    // DB에서 좋아요가 삭제된 뒤 호출
+    public void removed(Long videoId, Long userId) {
+        LikedUsers users = likedUsers.get(videoId);
+        if (users != null) {
+            users.remove(userId);
+        } else {
+            likedUsers.remove(videoId);
+        }
+    }
+
+    // 삭제된 비디오의 비트맵 제거
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (event.getType() == VideoChangedEvent.Type.DELETED) {
+            likedUsers.remove(event.getVideoId());
+        }
+    }
+
+    private LikedUsers load(Long videoId) {
+        return new LikedUsers(videoLikeRepository.findUserIdsByVideoId(videoId));
+    }
+
+    // Roaring64Bitmap은 thread-safe 하지 않으므로 읽기/쓰기 락으로 감싼다
+    private static final class LikedUsers {
+        private final Roaring64Bitmap userIds = new Roaring64Bitmap();
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private LikedUsers(List<Long> ids) {
+            for (Long id : ids) {
+                userIds.addLong(id);
+            }
+            userIds.runOptimize();
+        }
+
+        private boolean contains(Long userId) {
+            lock.readLock().lock();
+            try {
+                return userIds.contains(userId);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void add(Long userId) {
+            lock.writeLock().lock();
+            try {
+                userIds.addLong(userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void remove(Long userId) {
+            lock.writeLock().lock();
+            try {
+                userIds.removeLong(userId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
\ No newline at end of file
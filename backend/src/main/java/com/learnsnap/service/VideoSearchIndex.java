@@ -0,0 +1,428 @@
+package com.learnsnap.service;
+
+import com.learnsnap.config.ReplicaRoutingDataSource;
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.event.VideosImportedEvent;
+import com.learnsnap.repository.VideoRepository;
+import com.learnsnap.repository.VideoSearchDocument;
+import com.learnsnap.util.LruCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/설명 문자 n-gram 역색인 (LIKE '%키워드%' 풀 스캔 대체)
+// 공백 단위가 아닌 글자 단위 bigram/trigram이라 한글 제목도 부분 일치로 검색된다
+// 메모리에는 posting list만 둔다 (원문은 DB에만) - 검색어별 순위는 상위 maxResults개만 만들어 캐시한다
+@Slf4j
+@Component
+public class VideoSearchIndex implements SmartInitializingSingleton {
+
+    // 제목에서 일치한 gram은 설명보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // 검색어의 gram이 모두 제목(또는 설명) 한 곳에 들어 있으면 가산점
+    private static final int TITLE_COVERAGE_BONUS = 20;
+    private static final int DESCRIPTION_COVERAGE_BONUS = 5;
+
+    // 일괄 등록 반영 시 한 번에 읽는 ID 범위
+    private static final long IMPORT_CHUNK_IDS = 10_000;
+
+    // 관련도 desc, 같으면 최신 id desc
+    private static final Comparator<SearchHit> RANKING = Comparator.comparingLong(SearchHit::getScore)
+            .thenComparingLong(SearchHit::getVideoId)
+            .reversed();
+
+    private final VideoRepository videoRepository;
+    private final int maxResults;
+
+    private final Map<String, LongPostingList> titlePostings = new HashMap<>();
+    private final Map<String, LongPostingList> descriptionPostings = new HashMap<>();
+    // 색인된 비디오 ID (개수 확인용)
+    private final LongPostingList documents = new LongPostingList();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 정규화된 검색어 -> 순위 (색인이 바뀌면 비운다, 비우기 전에 계산된 순위는 다시 들어오지 않음)
+    private final LruCache<String, List<SearchHit>> rankings;
+
+    public VideoSearchIndex(VideoRepository videoRepository,
+                            @Value("${learnsnap.search.max-results:1000}") int maxResults,
+                            @Value("${learnsnap.search.cache-size:500}") int cacheSize) {
+        this.videoRepository = videoRepository;
+        this.maxResults = maxResults;
+        this.rankings = new LruCache<>(cacheSize);
+    }
+
+    // 웹 서버가 요청을 받기 전에 DB에서 인덱스 구축
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    // 전체 재구축
+    public void rebuild() {
+        List<VideoSearchDocument> videos = videoRepository.findAllSearchDocuments();
+
+        lock.writeLock().lock();
+        try {
+            titlePostings.clear();
+            descriptionPostings.clear();
+            documents.size = 0;
+            for (VideoSearchDocument video : videos) {
+                addDocument(video.getId(), video.getTitle(), video.getDescription());
+            }
+            rankings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("검색 인덱스 구축 완료: 비디오 {}개, gram {}개",
+                videos.size(), titlePostings.size() + descriptionPostings.size());
+    }
+
+    // 커밋된 비디오 변경만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (event.getType() == VideoChangedEvent.Type.DELETED) {
+            remove(event.getVideoId());
+        } else {
+            index(event.getVideoId(), event.getVideo().getTitle(), event.getVideo().getDescription());
+        }
+    }
+
+    // 일괄 등록은 행마다 이벤트가 없으므로 등록된 ID 범위만 나눠 읽어 색인 (요청 스레드가 아닌 작업 스레드에서)
+    // 방금 커밋된 행이므로 primary에서 읽는다 (작업 스레드에는 read-your-writes가 적용되지 않는다)
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideosImported(VideosImportedEvent event) {
+        long indexed = 0;
+        for (long from = event.getFirstId(); from <= event.getLastId(); from += IMPORT_CHUNK_IDS) {
+            long to = Math.min(event.getLastId(), from + IMPORT_CHUNK_IDS - 1);
+            long first = from;
+            List<VideoSearchDocument> videos = ReplicaRoutingDataSource.onPrimary(
+                    () -> videoRepository.findSearchDocumentsByIdBetween(first, to));
+
+            lock.writeLock().lock();
+            try {
+                for (VideoSearchDocument video : videos) {
+                    removeDocument(video.getId());
+                    addDocument(video.getId(), video.getTitle(), video.getDescription());
+                }
+                rankings.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += videos.size();
+        }
+
+        log.info("검색 인덱스에 일괄 등록 비디오 추가: {}개", indexed);
+    }
+
+    // 비디오 추가/수정
+    public void index(Long id, String title, String description) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            addDocument(id, title, description);
+            rankings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 비디오 삭제
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            rankings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색 - 관련도 높은 순 (같으면 최신 id 순), 상위 maxResults개까지
+    // 같은 검색어의 다음 페이지는 캐시된 순위를 그대로 쓴다
+    public List<SearchHit> search(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return rankings.getOrLoad(String.join(" ", tokens), key -> rank(queryGrams(tokens)));
+    }
+
+    private List<SearchHit> rank(Set<String> queryGrams) {
+        // 점수가 가장 낮은 것이 head - 상위 maxResults개만 남긴다 (전체 정렬 없음)
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(RANKING.reversed());
+        lock.readLock().lock();
+        try {
+            // 모든 gram을 제목 또는 설명에 포함한 비디오만 후보 (선택도 높은 gram부터 교집합)
+            List<long[]> matches = new ArrayList<>();
+            for (String gram : queryGrams) {
+                long[] matched = union(titlePostings.get(gram), descriptionPostings.get(gram));
+                if (matched.length == 0) {
+                    return List.of();
+                }
+                matches.add(matched);
+            }
+            matches.sort(Comparator.comparingInt(ids -> ids.length));
+
+            long[] candidates = matches.get(0);
+            for (int i = 1; i < matches.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, matches.get(i));
+            }
+
+            for (long id : candidates) {
+                long score = 0;
+                int inTitle = 0;
+                int inDescription = 0;
+                for (String gram : queryGrams) {
+                    if (contains(titlePostings.get(gram), id)) {
+                        score += TITLE_WEIGHT;
+                        inTitle++;
+                    }
+                    if (contains(descriptionPostings.get(gram), id)) {
+                        score += DESCRIPTION_WEIGHT;
+                        inDescription++;
+                    }
+                }
+                if (inTitle == queryGrams.size()) {
+                    score += TITLE_COVERAGE_BONUS;
+                } else if (inDescription == queryGrams.size()) {
+                    score += DESCRIPTION_COVERAGE_BONUS;
+                }
+
+                SearchHit hit = new SearchHit(id, score);
+                if (top.size() < maxResults) {
+                    top.add(hit);
+                } else if (RANKING.compare(hit, top.peek()) < 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return List.copyOf(hits);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 내부 구현 (writeLock 안에서 호출) =====
+
+    private void addDocument(Long id, String title, String description) {
+        documents.add(id);
+
+        for (String gram : indexGrams(title, true)) {
+            titlePostings.computeIfAbsent(gram, g -> new LongPostingList()).add(id);
+        }
+        // 설명은 길어서 unigram은 한 글자짜리 토큰만 색인
+        for (String gram : indexGrams(description, false)) {
+            descriptionPostings.computeIfAbsent(gram, g -> new LongPostingList()).add(id);
+        }
+    }
+
+    // 원문을 들고 있지 않으므로 모든 posting list에서 찾아 지운다 (수정/삭제는 드물다)
+    private void removeDocument(Long id) {
+        if (!contains(documents, id)) {
+            return;
+        }
+        documents.remove(id);
+        removePostings(titlePostings, id);
+        removePostings(descriptionPostings, id);
+    }
+
+    private void removePostings(Map<String, LongPostingList> postings, long id) {
+        postings.values().removeIf(list -> {
+            list.remove(id);
+            return list.size == 0;
+        });
+    }
+
+    // ===== 토큰화 =====
+
+    // NFKC + 소문자, 연속 공백은 하나로
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    // 글자/숫자가 아닌 문자를 구분자로 토큰 분리
+    private static List<String> tokenize(String text) {
+        String normalized = normalize(text);
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (Character.isLetterOrDigit(ch)) {
+                current.append(ch);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    // 색인용 gram: bigram + trigram (+ unigram)
+    private static Set<String> indexGrams(String text, boolean withUnigrams) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenize(text)) {
+            if (withUnigrams || token.length() == 1) {
+                addNGrams(token, 1, grams);
+            }
+            addNGrams(token, 2, grams);
+            addNGrams(token, 3, grams);
+        }
+        return grams;
+    }
+
+    // 검색용 gram: 토큰 길이에 맞는 가장 긴 gram만 사용 (후보를 최대한 좁히기 위해)
+    // 한 글자 토큰은 unigram이므로 설명에서는 한 글자 단어로 쓰인 경우만 일치한다
+    private static Set<String> queryGrams(List<String> tokens) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            addNGrams(token, Math.min(token.length(), 3), grams);
+        }
+        return grams;
+    }
+
+    private static void addNGrams(String token, int n, Set<String> grams) {
+        for (int i = 0; i + n <= token.length(); i++) {
+            grams.add(token.substring(i, i + n));
+        }
+    }
+
+    // ===== posting list 연산 =====
+
+    private static boolean contains(LongPostingList list, long id) {
+        return list != null && Arrays.binarySearch(list.ids, 0, list.size, id) >= 0;
+    }
+
+    private static long[] union(LongPostingList a, LongPostingList b) {
+        if (a == null && b == null) {
+            return new long[0];
+        }
+        if (a == null) {
+            return Arrays.copyOf(b.ids, b.size);
+        }
+        if (b == null) {
+            return Arrays.copyOf(a.ids, a.size);
+        }
+
+        long[] result = new long[a.size + b.size];
+        int i = 0, j = 0, k = 0;
+        while (i < a.size && j < b.size) {
+            if (a.ids[i] < b.ids[j]) {
+                result[k++] = a.ids[i++];
+            } else if (a.ids[i] > b.ids[j]) {
+                result[k++] = b.ids[j++];
+            } else {
+                result[k++] = a.ids[i++];
+                j++;
+            }
+        }
+        while (i < a.size) {
+            result[k++] = a.ids[i++];
+        }
+        while (j < b.size) {
+            result[k++] = b.ids[j++];
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    // 정렬된 primitive long 배열 (박싱 없는 posting list)
+    private static final class LongPostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            int pos;
+            if (size == 0 || ids[size - 1] < id) {
+                pos = size;  // 새 비디오는 id가 증가하므로 대부분 끝에 추가
+            } else {
+                pos = Arrays.binarySearch(ids, 0, size, id);
+                if (pos >= 0) {
+                    return;
+                }
+                pos = -pos - 1;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+
+        private void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHit {
+        private final long videoId;
+        private final long score;
+    }
+}
@@ -6,62 +6,117 @@ import com.learnsnap.domain.user.User;
 import com.learnsnap.domain.video.DifficultyLevel;
 import com.learnsnap.domain.video.Video;
 import com.learnsnap.dto.CategoryResponse;
+import com.learnsnap.dto.LikeResponse;
+import com.learnsnap.dto.VideoCursor;
+import com.learnsnap.dto.VideoFilter;
 import com.learnsnap.dto.VideoRequest;
 import com.learnsnap.dto.VideoResponse;
-import com.learnsnap.exception.CategoryNotFoundException;
+import com.learnsnap.dto.VideoSliceResponse;
+import com.learnsnap.dto.VideoSortKey;
+import com.learnsnap.event.UserLikesDeletedEvent;
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.exception.InvalidLimitException;
 import com.learnsnap.exception.UnauthorizedAccessException;
 import com.learnsnap.exception.VideoNotFoundException;
 import com.learnsnap.repository.CategoryRepository;
 import com.learnsnap.repository.UserRepository;
+import com.learnsnap.repository.VideoLikeRepository;
 import com.learnsnap.repository.VideoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+// public 메서드마다 실행 시간 측정 (learnsnap.video.service, class/method 태그)
+@Timed(value = "learnsnap.video.service", percentiles = {0.5, 0.99, 0.999})
 @Service
 @RequiredArgsConstructor
 public class VideoService {
 
+    // 커서 페이징 한 번에 가져올 수 있는 최대 개수
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final VideoRepository videoRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
     private final UserRepository userRepository;
-
-    // 전체 비디오 조회 (페이징)
+    private final ViewCountBuffer viewCountBuffer;
+    private final LikeCountBuffer likeCountBuffer;
+    private final VideoLikeRepository videoLikeRepository;
+    private final VideoLikeIndex videoLikeIndex;
+    private final VideoSearchIndex videoSearchIndex;
+    private final TrendingLeaderboard trendingLeaderboard;
+    private final RecentVideos recentVideos;
+    private final ThumbnailService thumbnailService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 조건을 조합한 비디오 목록 (페이징) - 조건 조합과 관계없이 한 번의 조회 쿼리
     @Transactional(readOnly = true)
-    public Page<VideoResponse> getAllVideos(Pageable pageable) {
-        return videoRepository.findAll(pageable)
-                .map(this::convertToResponse);
+    public Page<VideoResponse> getVideos(VideoFilter filter, VideoSortKey sortKey,
+                                         Sort.Direction direction, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+        Pageable pageable = PageRequest.of(Math.max(0, page), pageSize,
+                Sort.by(direction, sortKey.getProperty(), "id"));
+        return videoRepository.findResponses(filter, sortKey, direction, pageable)
+                .map(this::withLiveFields);
     }
 
     // 카테고리별 비디오 조회
     @Transactional(readOnly = true)
     public Page<VideoResponse> getVideosByCategory(Long categoryId, Pageable pageable) {
-        return videoRepository.findByCategoryId(categoryId, pageable)
-                .map(this::convertToResponse);
+        return videoRepository.findResponsesByCategoryId(categoryId, pageable)
+                .map(this::withLiveFields);
     }
 
-    // 난이도별 비디오 조회
+    // 커서(keyset) 페이징 조회 - 깊은 페이지도 일정한 비용, count 쿼리 없음
     @Transactional(readOnly = true)
-    public Page<VideoResponse> getVideosByDifficulty(DifficultyLevel difficulty, Pageable pageable) {
-        return videoRepository.findByDifficultyLevel(difficulty, pageable)
-                .map(this::convertToResponse);
+    public VideoSliceResponse getVideosAfter(VideoFilter filter, VideoSortKey sortKey,
+                                             Sort.Direction direction, String cursor, int size) {
+        VideoCursor after = VideoCursor.decode(cursor, sortKey, direction);
+        int sliceSize = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+
+        Slice<VideoResponse> slice = videoRepository.findResponsesAfter(filter, sortKey, direction, after, sliceSize);
+
+        // 다음 커서는 DB에 저장된 값 기준으로 만든다 (미반영 조회수 합산 전)
+        List<VideoResponse> content = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? VideoCursor.after(sortKey, direction, content.get(content.size() - 1)).encode()
+                : null;
+
+        return VideoSliceResponse.builder()
+                .content(content.stream()
+                        .map(this::withLiveFields)
+                        .collect(Collectors.toList()))
+                .size(sliceSize)
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
     }
 
     // 특정 비디오 조회
     @Transactional(readOnly = true)
     public VideoResponse getVideoById(Long id) {
-        Video video = videoRepository.findById(id)
+        VideoResponse video = videoRepository.findResponseById(id)
                 .orElseThrow(() -> new VideoNotFoundException("비디오를 찾을 수 없습니다: " + id));
         
-        return convertToResponse(video);
+        return withLiveFields(video);
     }
 
     // 비디오 생성 (강사/관리자)
@@ -71,9 +126,8 @@ public class VideoService {
         User instructor = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
-        // 카테고리 찾기
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CategoryNotFoundException("카테고리를 찾을 수 없습니다: " + request.getCategoryId()));
+        // 카테고리 확인 (캐시) 후 DB 조회 없이 참조만 연결
+        Category category = categoryReference(request.getCategoryId());
 
         // 비디오 생성
         Video video = Video.builder()
@@ -88,7 +142,10 @@ public class VideoService {
                 .build();
 
         Video savedVideo = videoRepository.save(video);
-        return convertToResponse(savedVideo);
+        VideoResponse response = convertToResponse(savedVideo);
+
+        eventPublisher.publishEvent(VideoChangedEvent.created(response));
+        return response;
     }
 
     // 비디오 수정 (본인 또는 관리자)
@@ -106,9 +163,8 @@ public class VideoService {
             throw new UnauthorizedAccessException("이 비디오를 수정할 권한이 없습니다");
         }
 
-        // 카테고리 찾기
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CategoryNotFoundException("카테고리를 찾을 수 없습니다: " + request.getCategoryId()));
+        // 카테고리 확인 (캐시) 후 DB 조회 없이 참조만 연결
+        Category category = categoryReference(request.getCategoryId());
 
         // 업데이트
         video.update(
@@ -120,7 +176,10 @@ public class VideoService {
             category
         );
 
-        return convertToResponse(video);
+        VideoResponse response = convertToResponse(video);
+
+        eventPublisher.publishEvent(VideoChangedEvent.updated(response));
+        return response;
     }
 
     // 비디오 삭제 (본인 또는 관리자)
@@ -138,24 +197,80 @@ public class VideoService {
             throw new UnauthorizedAccessException("이 비디오를 삭제할 권한이 없습니다");
         }
 
+        videoLikeRepository.deleteAllByVideoId(id);
         videoRepository.delete(video);
+        viewCountBuffer.discard(id);
+        likeCountBuffer.discard(id);
+
+        eventPublisher.publishEvent(VideoChangedEvent.deleted(id));
     }
 
-    // 조회수 증가
-    @Transactional
+    // 조회수 증가 (메모리에 누적 후 ViewCountBuffer가 주기적으로 일괄 반영)
+    @Transactional(readOnly = true)
     public Map<String, Long> incrementViews(Long id) {
-        Video video = videoRepository.findById(id)
+        Long persistedViews = videoRepository.findViewsCountById(id)
                 .orElseThrow(() -> new VideoNotFoundException("비디오를 찾을 수 없습니다: " + id));
 
-        video.incrementViews();
+        viewCountBuffer.record(id);
+        trendingLeaderboard.record(id);
 
         Map<String, Long> response = new HashMap<>();
-        response.put("viewsCount", video.getViewsCount());
+        response.put("viewsCount", viewCountBuffer.current(id, persistedViews));
         return response;
     }
 
-    // Entity -> Response DTO 변환
-    private VideoResponse convertToResponse(Video video) {
+    // 좋아요 (이미 좋아요한 경우 변경 없음)
+    // 트랜잭션을 열지 않는다 - INSERT가 커밋된 뒤에 비트맵과 카운터를 갱신해야 하므로
+    public LikeResponse likeVideo(Long id, Long userId) {
+        if (!videoLikeIndex.hasLiked(id, userId)) {
+            int inserted;
+            try {
+                inserted = videoLikeRepository.insertIfAbsent(id, userId);
+            } catch (DataIntegrityViolationException e) {
+                // video_id 외래 키 위반 = 없는 비디오
+                throw new VideoNotFoundException("비디오를 찾을 수 없습니다: " + id);
+            }
+
+            if (inserted > 0) {
+                videoLikeIndex.added(id, userId);
+                likeCountBuffer.increment(id);
+            }
+        }
+        return likeResponse(id, true);
+    }
+
+    // 좋아요 취소 (좋아요하지 않은 경우 변경 없음)
+    // 비트맵은 다른 인스턴스의 좋아요를 모를 수 있으므로 항상 DELETE를 보내고 지워진 행 수로 판단한다
+    public LikeResponse unlikeVideo(Long id, Long userId) {
+        if (videoLikeRepository.deleteByVideoIdAndUserId(id, userId) > 0) {
+            videoLikeIndex.removed(id, userId);
+            likeCountBuffer.decrement(id);
+        }
+        return likeResponse(id, false);
+    }
+
+    // 사용자 삭제로 지워진 좋아요 - 커밋된 뒤에 비트맵과 좋아요 수 반영 (롤백되면 그대로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserLikesDeleted(UserLikesDeletedEvent event) {
+        for (Long videoId : event.getVideoIds()) {
+            videoLikeIndex.removed(videoId, event.getUserId());
+            likeCountBuffer.decrement(videoId);
+        }
+    }
+
+    private LikeResponse likeResponse(Long id, boolean liked) {
+        Long persistedLikes = videoRepository.findLikesCountById(id)
+                .orElseThrow(() -> new VideoNotFoundException("비디오를 찾을 수 없습니다: " + id));
+
+        return LikeResponse.builder()
+                .videoId(id)
+                .liked(liked)
+                .likesCount(Math.max(0L, likeCountBuffer.current(id, persistedLikes)))
+                .build();
+    }
+
+    // Entity -> Response DTO 변환 (벤치마크에서 직접 호출하도록 package-private)
+    VideoResponse convertToResponse(Video video) {
         return VideoResponse.builder()
                 .id(video.getId())
                 .title(video.getTitle())
@@ -164,25 +279,35 @@ public class VideoService {
                 .thumbnailUrl(video.getThumbnailUrl())
                 .duration(video.getDuration())
                 .difficultyLevel(video.getDifficultyLevel())
-                .category(convertCategoryToResponse(video.getCategory()))
+                .category(categoryService.getCategoryById(video.getCategory().getId()))
                 .instructor(convertInstructorToInfo(video.getInstructor()))
-                .viewsCount(video.getViewsCount())
-                .likesCount(video.getLikesCount())
+                .viewsCount(viewCountBuffer.current(video.getId(), video.getViewsCount()))
+                .likesCount(Math.max(0L, likeCountBuffer.current(video.getId(), video.getLikesCount())))
                 .createdAt(video.getCreatedAt())
                 .updatedAt(video.getUpdatedAt())
+                .thumbnails(thumbnailService.variantUrls(video.getId(), video.getThumbnailUrl()))
                 .build();
     }
 
-    private CategoryResponse convertCategoryToResponse(Category category) {
-        return CategoryResponse.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .slug(category.getSlug())
-                .description(category.getDescription())
-                .icon(category.getIcon())
-                .createdAt(category.getCreatedAt())
-                .updatedAt(category.getUpdatedAt())
-                .build();
+    // 조회 전용 쿼리 결과에 아직 반영되지 않은 조회수/좋아요 수 합산, 썸네일 URL 추가
+    private VideoResponse withLiveFields(VideoResponse response) {
+        response.setViewsCount(viewCountBuffer.current(response.getId(), response.getViewsCount()));
+        response.setLikesCount(Math.max(0L, likeCountBuffer.current(response.getId(), response.getLikesCount())));
+        response.setThumbnails(thumbnailService.variantUrls(response.getId(), response.getThumbnailUrl()));
+        return response;
+    }
+
+    // 버퍼에 저장된 스냅샷의 카테고리를 캐시의 최신 값으로 교체 (카테고리 이름 변경 반영), 썸네일 URL 갱신
+    private VideoResponse withCurrentCategory(VideoResponse response) {
+        response.setCategory(categoryService.getCategoryById(response.getCategory().getId()));
+        response.setThumbnails(thumbnailService.variantUrls(response.getId(), response.getThumbnailUrl()));
+        return response;
+    }
+
+    // 존재하는 카테고리의 프록시 참조 (없으면 CategoryNotFoundException)
+    private Category categoryReference(Long categoryId) {
+        CategoryResponse category = categoryService.getCategoryById(categoryId);
+        return categoryRepository.getReferenceById(category.getId());
     }
 
     private VideoResponse.InstructorInfo convertInstructorToInfo(User instructor) {
@@ -194,47 +319,133 @@ public class VideoService {
                 .build();
     }
 
-    // 제목 또는 설명으로 검색
+    // 제목 또는 설명으로 검색 (메모리 n-gram 인덱스, 관련도순)
+    // 순위는 검색어별로 캐시된 상위 learnsnap.search.max-results개 - 전체 개수도 그 안에서 센다
     @Transactional(readOnly = true)
     public Page<VideoResponse> searchVideos(String keyword, Pageable pageable) {
-        return videoRepository.findByTitleContainingOrDescriptionContaining(
-                keyword, keyword, pageable)
-                .map(this::convertToResponse);
+        List<VideoSearchIndex.SearchHit> hits = videoSearchIndex.search(keyword);
+
+        int from = (int) Math.min(pageable.getOffset(), hits.size());
+        int to = Math.min(from + pageable.getPageSize(), hits.size());
+        List<Long> ids = hits.subList(from, to).stream()
+                .map(VideoSearchIndex.SearchHit::getVideoId)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(findResponsesInOrder(ids), pageable, hits.size());
+    }
+
+    // 검색 커서 페이징 - (관련도, id) 기준
+    @Transactional(readOnly = true)
+    public VideoSliceResponse searchVideosAfter(String keyword, String cursor, int size) {
+        VideoCursor after = VideoCursor.decode(cursor, VideoSortKey.RELEVANCE, Sort.Direction.DESC);
+        int sliceSize = Math.max(1, Math.min(size, MAX_SLICE_SIZE));
+
+        List<VideoSearchIndex.SearchHit> hits = videoSearchIndex.search(keyword);
+
+        // 결과는 (관련도 desc, id desc) 순이므로 커서보다 뒤인 첫 위치부터
+        int start = 0;
+        if (after != null) {
+            long lastScore = (Long) after.getTypedValue();
+            long lastId = after.getLastId();
+            while (start < hits.size()) {
+                VideoSearchIndex.SearchHit hit = hits.get(start);
+                if (hit.getScore() < lastScore || (hit.getScore() == lastScore && hit.getVideoId() < lastId)) {
+                    break;
+                }
+                start++;
+            }
+        }
+
+        int end = Math.min(start + sliceSize, hits.size());
+        List<VideoSearchIndex.SearchHit> page = hits.subList(start, end);
+        boolean hasNext = end < hits.size();
+
+        String nextCursor = null;
+        if (hasNext) {
+            VideoSearchIndex.SearchHit last = page.get(page.size() - 1);
+            nextCursor = new VideoCursor(VideoSortKey.RELEVANCE, Sort.Direction.DESC,
+                    String.valueOf(last.getScore()), last.getVideoId()).encode();
+        }
+
+        List<Long> ids = page.stream()
+                .map(VideoSearchIndex.SearchHit::getVideoId)
+                .collect(Collectors.toList());
+
+        return VideoSliceResponse.builder()
+                .content(findResponsesInOrder(ids))
+                .size(sliceSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // ID 순서를 유지하며 VideoResponse 조회 (인덱스/랭킹 결과용)
+    private List<VideoResponse> findResponsesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, VideoResponse> byId = videoRepository.findResponsesByIdIn(ids).stream()
+                .collect(Collectors.toMap(VideoResponse::getId, Function.identity()));
+
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(this::withLiveFields)
+                .collect(Collectors.toList());
     }
 
     // 강사별 비디오 조회
     @Transactional(readOnly = true)
     public Page<VideoResponse> getVideosByInstructor(Long instructorId, Pageable pageable) {
-        return videoRepository.findByInstructorId(instructorId, pageable)
-                .map(this::convertToResponse);
+        return videoRepository.findResponsesByInstructorId(instructorId, pageable)
+                .map(this::withLiveFields);
     }
 
     // 카테고리와 난이도로 필터링
     @Transactional(readOnly = true)
     public Page<VideoResponse> getVideosByCategoryAndDifficulty(
             Long categoryId, DifficultyLevel difficulty, Pageable pageable) {
-        return videoRepository.findByCategoryIdAndDifficultyLevel(
+        return videoRepository.findResponsesByCategoryIdAndDifficultyLevel(
                 categoryId, difficulty, pageable)
-                .map(this::convertToResponse);
+                .map(this::withLiveFields);
     }
 
-    // 인기 비디오 (조회수 많은 순)
+    // 인기 목록 개수 검증 - 순위는 상위 K개만 유지하므로 K를 넘는 limit은 채울 수 없다 (조용히 줄이지 않고 400)
+    public void checkPopularLimit(int limit) {
+        int topK = trendingLeaderboard.getTopK();
+        if (limit < 1 || limit > topK) {
+            throw new InvalidLimitException("limit은 1 이상 " + topK + " 이하여야 합니다: " + limit);
+        }
+    }
+
+    // 인기 비디오 (시간 감쇠 조회수 순, 최대 K개 - 메모리 순위에서 ID를 가져와 한 번에 조회)
     @Transactional(readOnly = true)
     public List<VideoResponse> getPopularVideos(int limit) {
-        List<Video> videos = videoRepository.findTop10ByOrderByViewsCountDesc();
-        return videos.stream()
-                .limit(limit)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        checkPopularLimit(limit);
+        return findResponsesInOrder(trendingLeaderboard.top(limit));
     }
 
-    // 최신 비디오
+    // 카테고리별 인기 비디오
     @Transactional(readOnly = true)
+    public List<VideoResponse> getPopularVideosByCategory(Long categoryId, int limit) {
+        checkPopularLimit(limit);
+        categoryService.getCategoryById(categoryId);
+        return findResponsesInOrder(trendingLeaderboard.topByCategory(categoryId, limit));
+    }
+
+    // 최신 비디오 (메모리 버퍼에서 응답, 버퍼로 부족할 때만 DB 조회 - 그래서 트랜잭션을 열지 않는다)
     public List<VideoResponse> getRecentVideos(int limit) {
-        List<Video> videos = videoRepository.findTop10ByOrderByCreatedAtDesc();
-        return videos.stream()
-                .limit(limit)
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        if (limit <= 0) {
+            return List.of();
+        }
+        int size = Math.min(limit, MAX_SLICE_SIZE);
+
+        return recentVideos.latest(size)
+                .map(videos -> videos.stream()
+                        .map(this::withCurrentCategory)
+                        .collect(Collectors.toList()))
+                .orElseGet(() -> videoRepository.findRecentResponses(PageRequest.of(0, size)).stream()
+                        .map(this::withLiveFields)
+                        .collect(Collectors.toList()));
     }
 }
\ No newline at end of file
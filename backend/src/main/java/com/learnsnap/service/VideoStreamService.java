@@ -0,0 +1,236 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoChangedEvent;
+import com.learnsnap.exception.VideoNotFoundException;
+import com.learnsnap.repository.VideoRepository;
+import com.learnsnap.util.LruCache;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+// 로컬 디스크에 저장된 비디오 파일 스트리밍 (Range / If-Range / ETag 지원)
+// Tomcat sendfile을 쓸 수 있으면 Tomcat이 경로로 파일을 열어 커널이 직접 소켓으로 보낸다 (힙 복사 없음)
+// 아니면 요청마다 FileChannel을 열어 transferTo로 넘기는데, 서블릿 출력 스트림은 byte[]만 받으므로
+// 이 경로는 청크 단위로 힙 버퍼를 거친다
+@Slf4j
+@Service
+public class VideoStreamService {
+
+    // Tomcat NIO 커넥터의 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final VideoRepository videoRepository;
+    private final Path storageRoot;
+    // 업로드가 비디오를 옮겨 두는 곳 - 저장소의 다른 파일(업로드 중인 파트, 썸네일 등)은 스트리밍하지 않는다
+    private final Path videoRoot;
+    private final boolean sendfileEnabled;
+
+    // 비디오 ID -> 로컬 파일 경로 (탐색할 때마다 오는 Range 요청이 DB를 거치지 않도록)
+    // 크기/수정 시각은 캐시하지 않는다 - 파일이 바뀌어도 요청마다 다시 읽으므로 ETag가 낡지 않는다
+    private final LruCache<Long, Path> paths;
+
+    public VideoStreamService(VideoRepository videoRepository,
+                              @Value("${learnsnap.storage.root:./storage}") String storageRoot,
+                              @Value("${learnsnap.storage.path-cache-size:10000}") int pathCacheSize,
+                              @Value("${learnsnap.storage.sendfile:true}") boolean sendfileEnabled) {
+        this.videoRepository = videoRepository;
+        this.storageRoot = Paths.get(storageRoot).toAbsolutePath().normalize();
+        this.videoRoot = this.storageRoot.resolve("videos");
+        this.sendfileEnabled = sendfileEnabled;
+        this.paths = new LruCache<>(pathCacheSize);
+    }
+
+    // 비디오 스트리밍 (HEAD 요청이면 헤더만)
+    public void stream(Long id, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        writeResponse(stat(id), request, response);
+    }
+
+    // 경로가 바뀌거나 삭제된 비디오는 다시 조회하도록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVideoChanged(VideoChangedEvent event) {
+        if (event.getType() != VideoChangedEvent.Type.CREATED) {
+            paths.remove(event.getVideoId());
+        }
+    }
+
+    private void writeResponse(VideoFile file, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long length = file.size;
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, file.etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, file.lastModified);
+        response.setContentType(file.contentType);
+
+        // 같은 버전을 이미 가지고 있으면 본문 없이 304
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(file.etag))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        int status = HttpServletResponse.SC_OK;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(file, request)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+
+            // 여러 구간 요청(multipart/byteranges)은 지원하지 않고 전체 응답 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    start = range.getRangeStart(length);
+                    end = range.getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    // 파일 크기를 벗어난 구간
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                status = HttpServletResponse.SC_PARTIAL_CONTENT;
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setStatus(status);
+        response.setContentLengthLong(Math.max(0L, count));
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        if (sendfileEnabled && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답이 커밋될 때 Tomcat이 파일을 직접 소켓으로 보낸다
+            request.setAttribute(SENDFILE_FILENAME, file.path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        transfer(file.path, start, count, response);
+    }
+
+    // If-Range가 없거나 현재 버전과 같을 때만 Range 적용 (다르면 전체 응답)
+    private boolean rangeApplies(VideoFile file, HttpServletRequest request) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(file.etag);
+        }
+        try {
+            long since = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return since >= 0 && file.lastModified / 1000 <= since / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // sendfile을 쓸 수 없을 때 - 응답 채널이 소켓이 아니므로 transferTo는 버퍼를 거쳐 복사한다
+    private void transfer(Path path, long start, long count, HttpServletResponse response)
+            throws IOException {
+        WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+        long position = start;
+        long remaining = count;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        } catch (IOException e) {
+            // 탐색(seek) 중 클라이언트가 연결을 끊는 것은 정상
+            log.debug("스트리밍 중단: {}", e.getMessage());
+        }
+    }
+
+    // 요청마다 파일 속성을 다시 읽는다 (stat 한 번) - 경로만 캐시
+    private VideoFile stat(Long id) throws IOException {
+        Path path = paths.getOrLoad(id, this::resolvePath);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                throw new VideoNotFoundException("로컬에 저장된 비디오 파일이 없습니다: " + id);
+            }
+            String contentType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            return new VideoFile(path, attributes.size(), attributes.lastModifiedTime().toMillis(), contentType);
+        } catch (NoSuchFileException e) {
+            paths.remove(id);
+            throw new VideoNotFoundException("로컬에 저장된 비디오 파일이 없습니다: " + id);
+        }
+    }
+
+    private Path resolvePath(Long id) {
+        String videoUrl = videoRepository.findVideoUrlById(id)
+                .orElseThrow(() -> new VideoNotFoundException("비디오를 찾을 수 없습니다: " + id));
+
+        Path path = resolve(videoUrl);
+        if (path == null) {
+            throw new VideoNotFoundException("로컬에 저장된 비디오 파일이 없습니다: " + id);
+        }
+        return path;
+    }
+
+    // videoUrl이 저장소 기준 상대 경로이고 videos/ 아래일 때만 로컬 파일 (외부 URL이나 그 밖의 경로는 null)
+    private Path resolve(String videoUrl) {
+        if (videoUrl == null || videoUrl.isBlank() || videoUrl.contains("://")) {
+            return null;
+        }
+        String relative = videoUrl.startsWith("/") ? videoUrl.substring(1) : videoUrl;
+        Path path = storageRoot.resolve(relative).normalize();
+        return path.startsWith(videoRoot) ? path : null;
+    }
+
+    // 요청 시점의 파일 정보 (ETag = 크기-수정 시각)
+    private static final class VideoFile {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+        private final String contentType;
+        private final String etag;
+
+        private VideoFile(Path path, long size, long lastModified, String contentType) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentType = contentType;
+            this.etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoCountersFlushedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+// 조회수 버퍼 (조회마다 UPDATE 하지 않고 주기적으로 일괄 반영)
+@Component
+public class ViewCountBuffer extends CounterBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE videos v SET views_count = v.views_count + d.delta "
+            + "FROM unnest(?::bigint[], ?::bigint[]) AS d(id, delta) WHERE v.id = d.id "
+            + "RETURNING v.id, v.views_count";
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${learnsnap.counters.retain-after-flush-millis:3000}") long retainAfterFlushMillis) {
+        super("조회수", VideoCountersFlushedEvent.Type.VIEWS, FLUSH_SQL,
+                jdbcTemplate, transactionManager, eventPublisher, retainAfterFlushMillis);
+    }
+
+    // 조회수 1 증가
+    public void record(Long videoId) {
+        add(videoId, 1L);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${learnsnap.views.flush-interval-ms:5000}")
+    public void flush() {
+        super.flush();
+    }
+
+    // 애플리케이션 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
\ No newline at end of file
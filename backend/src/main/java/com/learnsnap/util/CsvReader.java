@@ -0,0 +1,99 @@
+package com.learnsnap.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// RFC 4180 CSV를 한 레코드씩 읽는 스트리밍 파서 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원)
+// 파일 전체를 메모리에 올리지 않으므로 대용량 일괄 등록에 사용
+public class CsvReader {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long recordNumber;
+    private int peeked = -2;
+
+    // reader는 버퍼링된 것을 넘길 것 (한 글자씩 읽는다)
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // 다음 레코드의 필드 목록 (입력 끝이면 null, 빈 줄은 건너뜀)
+    public List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                skipLineFeed(c);
+                continue;
+            }
+            recordNumber++;
+            return readRecord(c);
+        }
+    }
+
+    // 마지막으로 읽은 레코드 번호 (1부터, 빈 줄 제외)
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    private List<String> readRecord(int c) throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("닫히지 않은 따옴표: 레코드 " + recordNumber);
+                }
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                skipLineFeed(c);
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    // \r\n을 한 줄바꿈으로 처리
+    private void skipLineFeed(int c) throws IOException {
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                peeked = following;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
\ No newline at end of file
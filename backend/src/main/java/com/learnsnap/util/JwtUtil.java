@@ -1,14 +1,21 @@
 package com.learnsnap.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,55 +24,90 @@ import java.util.function.Function;
 @Component
 public class JwtUtil {
 
+    // 인증에 필요한 사용자 정보 claim (필터에서 DB 조회 없이 인증 객체를 만들기 위함)
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    // Secret Key 생성
-    private Key getSigningKey() {
+    // 최근 검증한 토큰 캐시 크기
+    @Value("${learnsnap.jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    // 키와 파서는 한 번만 만든다 (JwtParser는 thread-safe)
+    private Key signingKey;
+    private JwtParser parser;
+
+    // 토큰 해시 -> 검증 결과 (같은 토큰을 요청마다 다시 HMAC 검증하지 않도록)
+    private LruCache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = new LruCache<>(verifiedCacheSize);
+    }
+
+    // Secret Key
+    private Key getSigningKey() {
+        return signingKey;
+    }
+
+    // JWT 토큰 검증 (한 번 파싱해서 서명/만료 확인, 실패 시 JwtException)
+    @Timed(value = "learnsnap.jwt", extraTags = {"operation", "verify"}, percentiles = {0.5, 0.99, 0.999})
+    public VerifiedToken verify(String token) {
+        String cacheKey = hash(token);
+
+        VerifiedToken cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verifiedTokens.remove(cacheKey);
+            throw new ExpiredJwtException(null, cached.getClaims(), "JWT expired at " + cached.getExpiration());
+        }
+
+        // 서명이 틀리거나 만료된 토큰은 parseClaimsJws에서 예외 발생 (실패는 캐시하지 않음)
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration(), claims);
+
+        verifiedTokens.put(cacheKey, verified);
+        return verified;
     }
 
     // JWT 토큰에서 사용자 이메일 추출
     public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).getEmail();
     }
 
     // JWT 토큰에서 만료 시간 추출
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return verify(token).getExpiration();
     }
 
     // JWT 토큰에서 특정 Claim 추출
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = verify(token).getClaims();
         return claimsResolver.apply(claims);
     }
 
-    // JWT 토큰에서 모든 Claim 추출
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    // JWT 토큰 만료 확인
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     // JWT 토큰 생성
+    @Timed(value = "learnsnap.jwt", extraTags = {"operation", "generate"}, percentiles = {0.5, 0.99, 0.999})
     public String generateToken(String email) {
         Map<String, Object> claims = new HashMap<>();
         return createToken(claims, email);
     }
 
     // JWT 토큰 생성 (추가 정보 포함)
+    @Timed(value = "learnsnap.jwt", extraTags = {"operation", "generate"}, percentiles = {0.5, 0.99, 0.999})
     public String generateToken(String email, Map<String, Object> additionalClaims) {
         return createToken(additionalClaims, email);
     }
@@ -86,17 +128,28 @@ public class JwtUtil {
 
     // JWT 토큰 유효성 검증
     public Boolean validateToken(String token, String email) {
-        final String extractedEmail = extractEmail(token);
-        return (extractedEmail.equals(email) && !isTokenExpired(token));
+        final VerifiedToken verified = verify(token);
+        return verified.getEmail().equals(email);
     }
 
     // JWT 토큰 유효성 검증 (이메일 없이)
     public Boolean validateToken(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
+            verify(token);
+            return true;
         } catch (Exception e) {
             return false;
         }
     }
+
+    // 캐시 키 (토큰 원문 대신 SHA-256 해시만 보관)
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.learnsnap.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+// 크기 제한이 있는 LRU 캐시 (hit/miss/eviction 통계 포함)
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final LinkedHashMap<K, V> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 항목이 밀려나거나 제거/교체될 때 호출 (락 안에서 실행되므로 짧은 작업만)
+    private final BiConsumer<K, V> removalListener;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // remove/clear 될 때마다 증가 - 무효화 전에 시작된 로딩 결과가 다시 들어오지 않도록
+    private long generation;
+
+    public LruCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public LruCache(int maxSize, BiConsumer<K, V> removalListener) {
+        this.maxSize = maxSize;
+        this.removalListener = removalListener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > LruCache.this.maxSize) {
+                    evictions.increment();
+                    notifyRemoval(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        V value;
+        lock.lock();
+        try {
+            value = entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    // 없으면 loader로 읽어서 저장 (loader는 락 밖에서 실행, null이면 저장하지 않음)
+    public V getOrLoad(K key, Function<K, V> loader) {
+        long loadGeneration;
+        lock.lock();
+        try {
+            V value = entries.get(key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+
+        lock.lock();
+        try {
+            if (generation == loadGeneration) {
+                notifyRemoval(key, entries.put(key, loaded));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            notifyRemoval(key, entries.put(key, value));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 이미 있으면 저장하지 않고 기존 값 반환, 없으면 저장 후 null 반환
+    public V putIfAbsent(K key, V value) {
+        lock.lock();
+        try {
+            V existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, value);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public V remove(K key) {
+        lock.lock();
+        try {
+            generation++;
+            V removed = entries.remove(key);
+            notifyRemoval(key, removed);
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            generation++;
+            if (removalListener != null) {
+                entries.forEach(removalListener);
+            }
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private void notifyRemoval(K key, V value) {
+        if (removalListener != null && value != null) {
+            removalListener.accept(key, value);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.learnsnap.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 서명과 만료가 검증된 JWT (한 번만 파싱해서 재사용)
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String email;
+    private final Date expiration;
+    private final Claims claims;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    // 로그인 시 넣어둔 사용자 정보 (이전에 발급된 토큰에는 없을 수 있음)
+    public Long getUserId() {
+        return claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+    }
+
+    public String getRole() {
+        return claims.get(JwtUtil.CLAIM_ROLE, String.class);
+    }
+
+    public Integer getTokenVersion() {
+        return claims.get(JwtUtil.CLAIM_TOKEN_VERSION, Integer.class);
+    }
+}
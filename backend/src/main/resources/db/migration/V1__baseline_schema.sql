@@ -0,0 +1,85 @@
+-- 기준 스키마 (JPA 엔티티와 같은 구조)
+-- Flyway 도입 전에 Hibernate ddl-auto로 만들어진 DB도 이 버전부터 적용한다 (baseline-version=0)
+-- 그래서 모든 문장은 이미 있는 객체를 건너뛰고, 없는 것(시퀀스, 추가된 컬럼/테이블)만 만든다
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS categories_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS videos_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT       NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    username      VARCHAR(100) NOT NULL,
+    role          VARCHAR(255) NOT NULL,
+    profile_image VARCHAR(500),
+    bio           VARCHAR(500),
+    token_version INTEGER      NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('LEARNER', 'INSTRUCTOR', 'ADMIN'))
+);
+
+CREATE TABLE IF NOT EXISTS categories (
+    id          BIGINT       NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    slug        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    icon        VARCHAR(100),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_categories PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name),
+    CONSTRAINT uk_categories_slug UNIQUE (slug)
+);
+
+CREATE TABLE IF NOT EXISTS videos (
+    id               BIGINT        NOT NULL,
+    title            VARCHAR(200)  NOT NULL,
+    description      VARCHAR(1000),
+    video_url        VARCHAR(500)  NOT NULL,
+    thumbnail_url    VARCHAR(500),
+    duration         INTEGER       NOT NULL,
+    difficulty_level VARCHAR(20)   NOT NULL,
+    category_id      BIGINT        NOT NULL,
+    instructor_id    BIGINT        NOT NULL,
+    views_count      BIGINT        NOT NULL DEFAULT 0,
+    likes_count      BIGINT        NOT NULL DEFAULT 0,
+    created_at       TIMESTAMP(6)  NOT NULL,
+    updated_at       TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_videos PRIMARY KEY (id),
+    CONSTRAINT fk_videos_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_videos_instructor FOREIGN KEY (instructor_id) REFERENCES users (id),
+    CONSTRAINT ck_videos_difficulty_level CHECK (difficulty_level IN ('BEGINNER', 'INTERMEDIATE', 'ADVANCED'))
+);
+
+CREATE TABLE IF NOT EXISTS video_likes (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    video_id   BIGINT       NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_video_likes PRIMARY KEY (id),
+    CONSTRAINT uk_video_likes_video_user UNIQUE (video_id, user_id),
+    CONSTRAINT fk_video_likes_video FOREIGN KEY (video_id) REFERENCES videos (id),
+    CONSTRAINT fk_video_likes_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS test_table (
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    message VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_test_table PRIMARY KEY (id)
+);
+
+-- Flyway 도입 전 스키마에는 없던 컬럼
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
+
+-- IDENTITY로 ID를 발급하던 DB는 시퀀스를 max(id)까지 올린다 (이미 앞서 있으면 그대로)
+-- 다음 nextval은 max(id) + 50 -> Hibernate(pooled)는 max(id) + 1부터 사용
+SELECT setval('users_seq', m) FROM (SELECT MAX(id) AS m FROM users) t
+WHERE m > (SELECT last_value FROM users_seq);
+SELECT setval('categories_seq', m) FROM (SELECT MAX(id) AS m FROM categories) t
+WHERE m > (SELECT last_value FROM categories_seq);
+SELECT setval('videos_seq', m) FROM (SELECT MAX(id) AS m FROM videos) t
+WHERE m > (SELECT last_value FROM videos_seq);
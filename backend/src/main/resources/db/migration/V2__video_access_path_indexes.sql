@@ -0,0 +1,35 @@
+-- VideoRepository 조회 경로별 인덱스
+-- 정렬 컬럼 뒤에 id를 붙여 커서 페이징의 (정렬 값, id) 순서를 인덱스가 그대로 제공하도록 한다
+-- CONCURRENTLY: 운영 중인 테이블에 쓰기 잠금 없이 생성 (Flyway가 트랜잭션 밖에서 실행)
+
+-- 카테고리별 목록/커서 (+ 카테고리+난이도 필터)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_category_created
+    ON videos (category_id, created_at DESC, id DESC);
+
+-- 강사별 목록/커서
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_instructor_created
+    ON videos (instructor_id, created_at DESC, id DESC);
+
+-- 난이도 필터 목록
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_difficulty_created
+    ON videos (difficulty_level, created_at DESC, id DESC);
+
+-- 조회수순 (인기 비디오, 커서 정렬 viewsCount)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_views
+    ON videos (views_count DESC, id DESC);
+
+-- 좋아요순 (커서 정렬 likesCount)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_likes
+    ON videos (likes_count DESC, id DESC);
+
+-- 최신순 (전체 목록, 최신 비디오)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_created
+    ON videos (created_at DESC, id DESC);
+
+-- UserRepository.findByUsername
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username
+    ON users (username);
+
+-- UserRepository.findChangedTokenVersions (대부분 0이므로 바뀐 사용자만)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_token_version_changed
+    ON users (id) WHERE token_version > 0;
@@ -0,0 +1,8 @@
+-- 삭제된 사용자 (TokenVersionStore가 시작할 때 읽어서 남은 토큰을 거절)
+-- 사용자 ID는 시퀀스로만 발급되어 재사용되지 않으므로 정리하지 않는다 (삭제는 드물다)
+
+CREATE TABLE IF NOT EXISTS deleted_users (
+    user_id    BIGINT       NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_deleted_users PRIMARY KEY (user_id)
+);
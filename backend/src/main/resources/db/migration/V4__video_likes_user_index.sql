@@ -0,0 +1,5 @@
+-- 사용자별 좋아요 조회 (사용자 삭제 전 정리)와 users 행 삭제 시 FK 확인용
+-- CONCURRENTLY: 다른 문장과 섞이면 트랜잭션 밖에서 실행할 수 없으므로 파일을 나눈다
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_video_likes_user
+    ON video_likes (user_id);
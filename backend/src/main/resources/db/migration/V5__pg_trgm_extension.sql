@@ -0,0 +1,5 @@
+-- 키워드 필터(LIKE '%키워드%')용 trigram 인덱스 확장
+-- PostgreSQL 13부터 trusted 확장이라 DB에 CREATE 권한이 있는 사용자면 설치할 수 있다
+-- CONCURRENTLY 인덱스와 한 파일에 두면 트랜잭션 밖에서 실행할 수 없으므로 V6과 나눈다
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
@@ -0,0 +1,9 @@
+-- VideoRepositoryImpl 키워드 필터: title/description LIKE '%키워드%' (목록과 count 쿼리)
+-- B-tree는 앞이 %인 패턴을 쓸 수 없어 풀 스캔이 되므로 trigram GIN 인덱스로 후보 행을 찾는다
+-- 세 글자보다 짧은 키워드는 trigram을 만들 수 없어 인덱스 효과가 없다
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_title_trgm
+    ON videos USING gin (title gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_videos_description_trgm
+    ON videos USING gin (description gin_trgm_ops);
@@ -0,0 +1,4 @@
+-- 조회수/좋아요 수 반영 시퀀스 (CounterBuffer가 반영할 때마다 nextval)
+-- 목록 ETag에 last_value를 넣어서 다른 인스턴스가 반영한 카운터 변경도 ETag에 드러나게 한다
+
+CREATE SEQUENCE IF NOT EXISTS video_counters_flush_seq;
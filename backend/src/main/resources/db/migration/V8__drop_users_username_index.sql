@@ -0,0 +1,4 @@
+-- UserRepository.findByUsername을 지웠으므로 username 인덱스는 사용자 추가/수정 비용만 늘린다
+-- CONCURRENTLY: 다른 문장과 섞이면 트랜잭션 밖에서 실행할 수 없으므로 파일을 나눈다
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_users_username;
@@ -0,0 +1,108 @@
+package com.learnsnap.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 복제본이 지연 한도 안에서 뒤처져 있을 때(500ms) 쓰기 직후의 캐시 재적재가 어디서 읽는지
+// 쓴 사용자 본인은 read-your-writes로 primary, 다른 스레드(다른 사용자/@Async)는 복제본 - 캐시 로더는 onPrimary로 primary
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        HikariDataSource replica = mock(HikariDataSource.class);
+        Statement statement = mock(Statement.class);
+        ResultSet lag = mock(ResultSet.class);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lag);
+        when(lag.next()).thenReturn(true);
+        when(lag.getLong(1)).thenReturn(500L);
+
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), 1000, 2000, 10);
+
+        // 첫 지연 점검이 끝나 복제본이 쓰일 때까지
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (inTransaction(true, routing::getConnection) != replicaConnection) {
+            assertThat(System.nanoTime()).as("복제본 점검").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cacheReloadAfterAnotherUsersWriteReadsPrimaryOnlyWhenHinted() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("admin@learnsnap.com", null, List.of()));
+        assertThat(inTransaction(false, routing::getConnection)).isSameAs(primaryConnection);
+        assertThat(inTransaction(true, routing::getConnection)).as("쓴 사용자 본인").isSameAs(primaryConnection);
+
+        // 다른 스레드 - 커밋 직후지만 read-your-writes 대상이 아니므로 아직 재생되지 않은 복제본을 읽는다
+        Connection unhinted = CompletableFuture.supplyAsync(
+                () -> inTransaction(true, routing::getConnection)).get(5, TimeUnit.SECONDS);
+        Connection hinted = CompletableFuture.supplyAsync(
+                () -> ReplicaRoutingDataSource.onPrimary(() -> inTransaction(true, routing::getConnection)))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(unhinted).isSameAs(replicaConnection);
+        assertThat(hinted).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void hintEndsWithItsScope() throws Exception {
+        Connection nested = ReplicaRoutingDataSource.onPrimary(() -> ReplicaRoutingDataSource.onPrimary(
+                () -> inTransaction(true, routing::getConnection)));
+        assertThat(nested).isSameAs(primaryConnection);
+        assertThat(inTransaction(true, routing::getConnection)).isSameAs(replicaConnection);
+    }
+
+    // 트랜잭션 매니저 없이 트랜잭션 상태만 흉내 낸다 (커밋 후 콜백 호출)
+    private static Connection inTransaction(boolean readOnly, Callable<Connection> action) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Connection connection = action.call();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            return connection;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+}
\ No newline at end of file
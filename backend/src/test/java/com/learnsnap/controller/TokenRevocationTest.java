@@ -0,0 +1,134 @@
+package com.learnsnap.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.learnsnap.domain.user.Role;
+import com.learnsnap.domain.user.User;
+import com.learnsnap.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 비밀번호/권한 변경, 사용자 삭제 이후 이전에 발급된 토큰은 401
+@SpringBootTest(properties = "learnsnap.rate-limit.auth-per-minute=1000")
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class TokenRevocationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void passwordChangeRevokesEarlierTokens() throws Exception {
+        String email = signUp("password1");
+        String oldToken = login(email, "password1");
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer(oldToken)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/users/me/password")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(oldToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"currentPassword\":\"password1\",\"newPassword\":\"password2\"}"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer(oldToken)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer(login(email, "password2"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void roleChangeRevokesEarlierTokens() throws Exception {
+        String adminToken = adminToken();
+        String email = signUp("password1");
+        String oldToken = login(email, "password1");
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+
+        mockMvc.perform(put("/api/users/" + userId + "/role")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(adminToken))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"role\":\"INSTRUCTOR\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("INSTRUCTOR"));
+
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer(oldToken)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer(login(email, "password1"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("INSTRUCTOR"));
+    }
+
+    @Test
+    void deletedUserTokensAreRejected() throws Exception {
+        String adminToken = adminToken();
+        String email = signUp("password1");
+        String oldToken = login(email, "password1");
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+
+        mockMvc.perform(delete("/api/users/" + userId).header(HttpHeaders.AUTHORIZATION, bearer(adminToken)))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer(oldToken)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String signUp(String password) throws Exception {
+        String email = "user-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\",\"username\":\"학습자\"}"))
+                .andExpect(status().isCreated());
+        return email;
+    }
+
+    private String adminToken() throws Exception {
+        String email = "admin-" + UUID.randomUUID() + "@example.com";
+        userRepository.save(User.builder()
+                .email(email)
+                .password(passwordEncoder.encode("admin-password"))
+                .username("관리자")
+                .role(Role.ADMIN)
+                .build());
+        return login(email, "admin-password");
+    }
+
+    private String login(String email, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.accessToken");
+    }
+
+    private static String bearer(String token) {
+        return "Bearer " + token;
+    }
+}
\ No newline at end of file
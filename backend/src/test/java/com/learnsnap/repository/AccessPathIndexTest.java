@@ -0,0 +1,270 @@
+package com.learnsnap.repository;
+
+import com.learnsnap.domain.video.DifficultyLevel;
+import com.learnsnap.dto.VideoCursor;
+import com.learnsnap.dto.VideoFilter;
+import com.learnsnap.dto.VideoSortKey;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 마이그레이션으로 만든 스키마에서 리포지토리 쿼리가 인덱스를 타는지 EXPLAIN으로 확인
+// Hibernate가 실제로 보내는 SQL을 가로채 EXPLAIN (GENERIC_PLAN)으로 계획만 본다 (PostgreSQL 16+)
+// 시드 데이터가 작으면 seq scan이 더 싸게 계산될 수 있으므로 enable_seqscan을 끄고,
+// 그래도 Seq Scan이 나오거나 정렬을 따로 하면(Sort) 쓸 수 있는 인덱스가 없는 것으로 본다
+// seq scan을 끄면 아무 인덱스나 전체를 읽는 계획도 통과하므로, 쿼리마다 타야 하는 인덱스 이름까지 확인한다
+// 전체를 읽는 것이 목적인 쿼리(findAll*, 메모리 인덱스 구축용)는 대상이 아니다
+// 키워드 필터는 trigram 인덱스로 찾은 소수의 행을 정렬하는 것이 맞으므로 정렬 여부 대신 인덱스 사용만 본다
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.learnsnap.repository.AccessPathIndexTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class AccessPathIndexTest {
+
+    // 조건 없는 count(*) - 어느 인덱스든 전체를 읽는 것이 맞으므로 인덱스 이름은 보지 않는다
+    private static final String FULL_COUNT = null;
+
+    private static final Pattern SORT_NODE = Pattern.compile("(^|->\\s+)(Incremental )?Sort\\s+\\(");
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private VideoLikeRepository videoLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Pageable newestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    // 카테고리 20개, 사용자 1000명(강사 50명), 비디오 20000개, 좋아요 5000개
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("INSERT INTO categories (id, name, slug, created_at, updated_at) "
+                + "SELECT n, '카테고리 ' || n, 'category-' || n, now(), now() FROM generate_series(1, 20) n");
+        jdbcTemplate.execute("INSERT INTO users (id, email, password, username, role, token_version, created_at, updated_at) "
+                + "SELECT n, 'user' || n || '@learnsnap.test', 'x', '사용자' || n, "
+                + "CASE WHEN n <= 50 THEN 'INSTRUCTOR' ELSE 'LEARNER' END, "
+                + "CASE WHEN n % 100 = 0 THEN 1 ELSE 0 END, now(), now() FROM generate_series(1, 1000) n");
+        jdbcTemplate.execute("INSERT INTO videos (id, title, video_url, duration, difficulty_level, category_id, "
+                + "instructor_id, views_count, likes_count, created_at, updated_at) "
+                + "SELECT n, '비디오 ' || n, 'https://cdn.learnsnap.test/' || n || '.mp4', 60 + n % 600, "
+                + "(ARRAY['BEGINNER', 'INTERMEDIATE', 'ADVANCED'])[1 + n % 3], 1 + n % 20, 1 + n % 50, "
+                + "(random() * 100000)::bigint, (random() * 1000)::bigint, "
+                + "now() - n * interval '1 minute', now() FROM generate_series(1, 20000) n");
+        jdbcTemplate.execute("INSERT INTO video_likes (video_id, user_id, created_at) "
+                + "SELECT 1 + n % 20000, 51 + n % 950, now() FROM generate_series(1, 5000) n ON CONFLICT DO NOTHING");
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void categoryListUsesCategoryCreatedAtIndex() {
+        String index = "idx_videos_category_created";
+        assertIndexed(() -> videoRepository.findResponsesByCategoryId(1L, newestFirst), index, index);
+        assertIndexed(() -> videoRepository.findResponsesByCategoryIdAndDifficultyLevel(
+                1L, DifficultyLevel.BEGINNER, newestFirst), index, index);
+    }
+
+    @Test
+    void instructorListUsesInstructorCreatedAtIndex() {
+        String index = "idx_videos_instructor_created";
+        assertIndexed(() -> videoRepository.findResponsesByInstructorId(1L, newestFirst), index, index);
+    }
+
+    @Test
+    void difficultyListUsesDifficultyIndex() {
+        String index = "idx_videos_difficulty_created";
+        VideoFilter advanced = VideoFilter.builder().difficulty(DifficultyLevel.ADVANCED).build();
+        assertIndexed(() -> videoRepository.findResponses(
+                advanced, VideoSortKey.CREATED_AT, Sort.Direction.DESC, PageRequest.of(0, 20)), index, index);
+    }
+
+    @Test
+    void recentListUsesCreatedAtIndex() {
+        assertIndexed(() -> videoRepository.findRecentResponses(PageRequest.of(0, 20)), "idx_videos_created");
+    }
+
+    @Test
+    void cursorPagesSeekOnIndexes() {
+        VideoFilter all = VideoFilter.builder().build();
+        VideoFilter byCategory = VideoFilter.builder().categoryId(1L).build();
+        VideoFilter byInstructor = VideoFilter.builder().instructorId(1L).build();
+        VideoCursor createdAt = new VideoCursor(VideoSortKey.CREATED_AT, Sort.Direction.DESC,
+                LocalDateTime.now().minusDays(1).toString(), 18000L);
+        VideoCursor views = new VideoCursor(VideoSortKey.VIEWS_COUNT, Sort.Direction.DESC, "50000", 10000L);
+        VideoCursor likes = new VideoCursor(VideoSortKey.LIKES_COUNT, Sort.Direction.DESC, "500", 10000L);
+
+        assertIndexed(() -> videoRepository.findResponsesAfter(all, VideoSortKey.CREATED_AT, Sort.Direction.DESC, null, 20),
+                "idx_videos_created");
+        assertIndexed(() -> videoRepository.findResponsesAfter(all, VideoSortKey.CREATED_AT, Sort.Direction.DESC, createdAt, 20),
+                "idx_videos_created");
+        assertIndexed(() -> videoRepository.findResponsesAfter(byCategory, VideoSortKey.CREATED_AT, Sort.Direction.DESC, createdAt, 20),
+                "idx_videos_category_created");
+        assertIndexed(() -> videoRepository.findResponsesAfter(byInstructor, VideoSortKey.CREATED_AT, Sort.Direction.DESC, createdAt, 20),
+                "idx_videos_instructor_created");
+        assertIndexed(() -> videoRepository.findResponsesAfter(all, VideoSortKey.VIEWS_COUNT, Sort.Direction.DESC, views, 20),
+                "idx_videos_views");
+        assertIndexed(() -> videoRepository.findResponsesAfter(all, VideoSortKey.LIKES_COUNT, Sort.Direction.DESC, likes, 20),
+                "idx_videos_likes");
+    }
+
+    @Test
+    void combinedFilterPagesUseIndexes() {
+        VideoFilter all = VideoFilter.builder().build();
+        VideoFilter categoryAndDifficulty = VideoFilter.builder()
+                .categoryId(1L).difficulty(DifficultyLevel.BEGINNER).minDuration(60).maxDuration(600).build();
+        PageRequest deepPage = PageRequest.of(5, 20);
+
+        assertIndexed(() -> videoRepository.findResponses(all, VideoSortKey.CREATED_AT, Sort.Direction.DESC, deepPage),
+                "idx_videos_created", FULL_COUNT);
+        assertIndexed(() -> videoRepository.findResponses(all, VideoSortKey.VIEWS_COUNT, Sort.Direction.DESC, deepPage),
+                "idx_videos_views", FULL_COUNT);
+        assertIndexed(() -> videoRepository.findResponses(all, VideoSortKey.LIKES_COUNT, Sort.Direction.DESC, deepPage),
+                "idx_videos_likes", FULL_COUNT);
+        assertIndexed(() -> videoRepository.findResponses(
+                categoryAndDifficulty, VideoSortKey.CREATED_AT, Sort.Direction.DESC, PageRequest.of(0, 20)),
+                "idx_videos_category_created", "idx_videos_category_created");
+    }
+
+    @Test
+    void keywordFilterUsesTrigramIndexes() {
+        VideoFilter keyword = VideoFilter.builder().keyword("비디오 12").build();
+        VideoFilter instructorAndKeyword = VideoFilter.builder()
+                .instructorId(1L).keyword("자바").build();
+
+        // 두 번째 페이지 - count 쿼리까지 실행된다
+        Map<String, String> plans = explain(() -> videoRepository.findResponses(
+                keyword, VideoSortKey.CREATED_AT, Sort.Direction.DESC, PageRequest.of(1, 20)));
+        plans.forEach((sql, plan) -> assertThat(plan).as("%s%n%s", sql, plan).doesNotContain("Seq Scan"));
+        String countSql = plans.keySet().stream()
+                .filter(sql -> sql.contains("count("))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("count 쿼리가 실행되지 않음"));
+        assertThat(plans.get(countSql)).as("%s%n%s", countSql, plans.get(countSql))
+                .contains("idx_videos_title_trgm", "idx_videos_description_trgm");
+
+        explain(() -> videoRepository.findResponses(
+                instructorAndKeyword, VideoSortKey.CREATED_AT, Sort.Direction.DESC, PageRequest.of(1, 20)))
+                .forEach((sql, plan) -> assertThat(plan).as("%s%n%s", sql, plan).doesNotContain("Seq Scan"));
+    }
+
+    @Test
+    void pointLookupsUseKeys() {
+        assertIndexed(() -> videoRepository.findResponseById(1L), "pk_videos");
+        assertIndexed(() -> videoRepository.findResponsesByIdIn(List.of(1L, 2L, 3L)), "pk_videos");
+        assertIndexed(() -> videoRepository.findViewsCountById(1L), "pk_videos");
+        assertIndexed(() -> videoRepository.findLikesCountById(1L), "pk_videos");
+        assertIndexed(() -> videoRepository.findVideoUrlById(1L), "pk_videos");
+        assertIndexed(() -> videoRepository.findThumbnailUrlById(1L), "pk_videos");
+
+        assertIndexed(() -> userRepository.findByEmail("user1@learnsnap.test"), "uk_users_email");
+        assertIndexed(() -> userRepository.existsByEmail("user1@learnsnap.test"), "uk_users_email");
+        assertIndexed(() -> userRepository.findChangedTokenVersions(), "idx_users_token_version_changed");
+        assertIndexed(() -> userRepository.updatePasswordHash(1L, "x", "y"), "pk_users");
+
+        assertIndexed(() -> categoryRepository.findBySlug("category-1"), "uk_categories_slug");
+        assertIndexed(() -> categoryRepository.existsByName("카테고리 1"), "uk_categories_name");
+        assertIndexed(() -> categoryRepository.existsBySlug("category-1"), "uk_categories_slug");
+
+        assertIndexed(() -> videoLikeRepository.findUserIdsByVideoId(1L), "uk_video_likes_video_user");
+        assertIndexed(() -> videoLikeRepository.findVideoIdsByUserId(51L), "idx_video_likes_user");
+        assertIndexed(() -> videoLikeRepository.deleteByVideoIdAndUserId(1L, 51L), "uk_video_likes_video_user");
+        assertIndexed(() -> videoLikeRepository.deleteAllByVideoId(1L), "uk_video_likes_video_user");
+    }
+
+    // 쿼리를 실행해 Hibernate가 보낸 SQL을 모은 뒤 각각의 실행 계획 확인 (Page면 count 쿼리 포함)
+    // expectedIndexes는 실행된 SQL 순서대로 그 계획에 있어야 하는 인덱스 (FULL_COUNT면 이름은 보지 않는다)
+    private void assertIndexed(Runnable query, String... expectedIndexes) {
+        Map<String, String> plans = explain(query);
+        assertThat(plans).as("실행된 SQL %s", plans.keySet()).hasSize(expectedIndexes.length);
+
+        int i = 0;
+        for (Map.Entry<String, String> entry : plans.entrySet()) {
+            String sql = entry.getKey();
+            String plan = entry.getValue();
+            assertThat(plan).as("%s%n%s", sql, plan).doesNotContain("Seq Scan");
+            assertThat(plan.lines().anyMatch(line -> SORT_NODE.matcher(line.trim()).find()))
+                    .as("인덱스 순서를 쓰지 못하고 정렬함%n%s%n%s", sql, plan)
+                    .isFalse();
+            String expected = expectedIndexes[i++];
+            if (expected != null) {
+                assertThat(plan).as("%s 인덱스를 쓰지 않음%n%s%n%s", expected, sql, plan).contains(expected);
+            }
+        }
+    }
+
+    // SQL -> 실행 계획 (실행 순서대로)
+    private Map<String, String> explain(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        List<String> statements = new ArrayList<>(SqlCapture.STATEMENTS);
+        assertThat(statements).as("실행된 SQL").isNotEmpty();
+
+        Map<String, String> plans = new LinkedHashMap<>();
+        for (String sql : statements) {
+            plans.put(sql, String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN (GENERIC_PLAN) " + positionalParameters(sql), String.class)));
+        }
+        return plans;
+    }
+
+    // JDBC ? -> $1, $2 ... (GENERIC_PLAN은 번호 붙은 파라미터만 받는다)
+    private static String positionalParameters(String sql) {
+        Matcher matcher = Pattern.compile("\\?").matcher(sql);
+        StringBuilder converted = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(converted, "\\$" + (++index));
+        }
+        matcher.appendTail(converted);
+        return converted.toString();
+    }
+
+    // Hibernate가 실행하는 SQL 기록 (hibernate.session_factory.statement_inspector)
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.learnsnap.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GCRA 계산, 동시 CAS, 타임 휠 제거, 키 수 상한(overflow 버킷) - 시각은 clock으로 직접 움직인다
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 3초에 3회 = 1초마다 토큰 하나, 쉬었다면 3회까지 한꺼번에
+    private final RateLimitRule rule = RateLimitRule.perIp("test", HttpMethod.POST, "/api/test", 3, Duration.ofSeconds(3));
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void burstUpToLimitThenOneTokenPerInterval() {
+        RateLimiter limiter = limiter(16, 1000);
+
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        assertThat(limiter.tryAcquire(rule, "a")).isEqualTo(SECOND);
+
+        // 거절된 요청은 상태를 바꾸지 않는다
+        clock.set(SECOND / 2);
+        assertThat(limiter.tryAcquire(rule, "a")).isEqualTo(SECOND / 2);
+
+        clock.set(SECOND);
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        assertThat(limiter.tryAcquire(rule, "a")).isEqualTo(SECOND);
+
+        // 다른 키는 따로 센다
+        assertThat(limiter.tryAcquire(rule, "b")).isZero();
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedLimit() throws Exception {
+        RateLimitRule perMinute = RateLimitRule.perIp("burst", HttpMethod.POST, "/api/test", 100, Duration.ofMinutes(1));
+        RateLimiter limiter = limiter(16, 1000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 50; i++) {
+                        if (limiter.tryAcquire(perMinute, "shared") == 0) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int allowed = 0;
+            for (Future<Integer> result : results) {
+                allowed += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(allowed).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void wheelEvictsOnlyFullBuckets() {
+        RateLimiter limiter = limiter(16, 1000);
+
+        // t=0에 하나, t=2에 둘 -> TAT 4초 (3초 시점 확인 때는 아직 가득 차지 않음)
+        limiter.tryAcquire(rule, "a");
+        clock.set(2 * SECOND);
+        limiter.tryAcquire(rule, "a");
+        limiter.tryAcquire(rule, "a");
+
+        clock.set(3 * SECOND);
+        limiter.advance();
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+
+        // 마지막 요청으로 TAT 5초 -> 5초 시점에 제거, 다시 오면 가득 찬 새 버킷
+        clock.set(4 * SECOND);
+        limiter.advance();
+        assertThat(limiter.size()).isEqualTo(1);
+
+        clock.set(5 * SECOND);
+        limiter.advance();
+        assertThat(limiter.size()).isZero();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(rule, "a")).isZero();
+        }
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void keysBeyondCapacityShareOverflowBucket() {
+        RateLimiter limiter = limiter(1, 2);
+
+        limiter.tryAcquire(rule, "a");
+        limiter.tryAcquire(rule, "b");
+
+        // c, d는 overflow 버킷 하나를 함께 쓴다 (3회)
+        assertThat(limiter.tryAcquire(rule, "c")).isZero();
+        assertThat(limiter.tryAcquire(rule, "d")).isZero();
+        assertThat(limiter.tryAcquire(rule, "c")).isZero();
+        assertThat(limiter.tryAcquire(rule, "d")).isPositive();
+        assertThat(limiter.size()).isEqualTo(3);
+
+        // 자리를 차지한 키는 영향을 받지 않는다
+        assertThat(limiter.tryAcquire(rule, "a")).isZero();
+
+        // a, b가 제거되면 새 키가 다시 자기 버킷을 얻는다
+        clock.set(3 * SECOND);
+        limiter.advance();
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire(rule, "c")).isZero();
+        assertThat(limiter.tryAcquire(rule, "c")).isZero();
+        assertThat(limiter.tryAcquire(rule, "c")).isZero();
+    }
+
+    private RateLimiter limiter(int stripes, int maxKeys) {
+        return new RateLimiter(new SimpleMeterRegistry(), stripes, maxKeys) {
+            @Override
+            long now() {
+                return clock.get();
+            }
+        };
+    }
+}
\ No newline at end of file
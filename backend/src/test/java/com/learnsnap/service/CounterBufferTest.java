@@ -0,0 +1,281 @@
+package com.learnsnap.service;
+
+import com.learnsnap.event.VideoCountersFlushedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+// 조회수/좋아요 버퍼의 반영 계산 - DB 대신 메모리 테이블(db)에 변경량을 더한다
+class CounterBufferTest {
+
+    private final Map<Long, Long> db = new ConcurrentHashMap<>();
+    private final List<Map<Long, Long>> writes = new ArrayList<>();
+    private final List<VideoCountersFlushedEvent> events = new ArrayList<>();
+    private final AtomicBoolean dbDown = new AtomicBoolean();
+
+    private PlatformTransactionManager transactionManager;
+    private ViewCountBuffer views;
+    private LikeCountBuffer likes;
+
+    @BeforeEach
+    void setUp() {
+        db.put(1L, 100L);
+        db.put(2L, 10L);
+        transactionManager = mock(PlatformTransactionManager.class);
+
+        views = new ViewCountBuffer(null, transactionManager, event -> events.add((VideoCountersFlushedEvent) event), 0) {
+            @Override
+            Map<Long, Long> writeDeltas(List<Long> ids, List<Long> deltas) {
+                return write(ids, deltas, false);
+            }
+        };
+        likes = new LikeCountBuffer(null, transactionManager, event -> events.add((VideoCountersFlushedEvent) event), 0) {
+            @Override
+            Map<Long, Long> writeDeltas(List<Long> ids, List<Long> deltas) {
+                return write(ids, deltas, true);
+            }
+        };
+    }
+
+    @Test
+    void flushWritesAccumulatedDeltaOnce() {
+        views.record(1L);
+        views.record(1L);
+        views.record(1L);
+        assertThat(views.current(1L, 100L)).isEqualTo(103L);
+
+        views.flush();
+
+        assertThat(writes).containsExactly(Map.of(1L, 3L));
+        assertThat(db.get(1L)).isEqualTo(103L);
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(103L);
+        assertThat(events).singleElement()
+                .satisfies(event -> assertThat(event.getPersisted()).containsEntry(1L, 103L));
+
+        views.record(1L);
+        views.flush();
+        views.flush();
+
+        assertThat(writes).containsExactly(Map.of(1L, 3L), Map.of(1L, 1L));
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(104L);
+    }
+
+    @Test
+    void likesFlushNetChange() {
+        likes.increment(2L);
+        likes.increment(2L);
+        likes.decrement(2L);
+        likes.increment(1L);
+        likes.decrement(1L);
+
+        likes.flush();
+
+        assertThat(writes).containsExactly(Map.of(2L, 1L));
+        assertThat(likes.current(2L, db.get(2L))).isEqualTo(11L);
+        assertThat(likes.current(1L, db.get(1L))).isEqualTo(100L);
+    }
+
+    @Test
+    void staleReadAfterFlushIsNotUndercounted() {
+        views.record(1L);
+        views.record(1L);
+        long readBeforeFlush = db.get(1L);
+
+        views.flush();
+        views.record(1L);
+
+        // 반영 전에 읽은 DB 값(복제본 등)이어도 반영 직후 값을 기준으로 계산
+        assertThat(views.current(1L, readBeforeFlush)).isEqualTo(103L);
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(103L);
+    }
+
+    @Test
+    void staleReadAfterUnlikeFlushIsNotOvercounted() {
+        likes.decrement(2L);
+        long readBeforeFlush = db.get(2L);
+
+        likes.flush();
+
+        // 반영이 값을 줄였으므로 반영 전 값(10)은 반영 직후 값(9)보다 크다 - 그래도 옛 값으로 본다
+        assertThat(db.get(2L)).isEqualTo(9L);
+        assertThat(likes.current(2L, readBeforeFlush)).isEqualTo(9L);
+        assertThat(likes.current(2L, db.get(2L))).isEqualTo(9L);
+
+        likes.increment(2L);
+        assertThat(likes.current(2L, readBeforeFlush)).isEqualTo(10L);
+        assertThat(likes.current(2L, db.get(2L))).isEqualTo(10L);
+    }
+
+    @Test
+    void readsDuringCommitAreNotDoubleCounted() {
+        views.record(1L);
+        views.record(1L);
+        List<Long> seenDuringCommit = new ArrayList<>();
+        doAnswer(invocation -> {
+            // 커밋 중: DB에는 이미 변경량이 더해져 있다
+            seenDuringCommit.add(views.current(1L, db.get(1L)));
+            seenDuringCommit.add(views.current(1L, 100L));
+            return null;
+        }).when(transactionManager).commit(any());
+
+        views.flush();
+
+        assertThat(seenDuringCommit).containsExactly(102L, 102L);
+    }
+
+    @Test
+    void failedWriteIsRetriedNextFlush() {
+        views.record(1L);
+        views.record(1L);
+        dbDown.set(true);
+
+        views.flush();
+
+        assertThat(db.get(1L)).isEqualTo(100L);
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(102L);
+        assertThat(events).isEmpty();
+
+        dbDown.set(false);
+        views.record(1L);
+        views.flush();
+
+        assertThat(db.get(1L)).isEqualTo(103L);
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(103L);
+    }
+
+    @Test
+    void failedCommitRestoresFlushPoint() {
+        views.record(1L);
+        doThrow(new TransactionSystemException("commit failed"))
+                .doNothing()
+                .when(transactionManager).commit(any());
+
+        views.flush();
+        // 쓴 값은 롤백된 것으로 보고 되돌린다
+        db.put(1L, 100L);
+
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(101L);
+
+        views.flush();
+
+        assertThat(writes).containsExactly(Map.of(1L, 1L), Map.of(1L, 1L));
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(101L);
+    }
+
+    @Test
+    void idleCountersAreRemovedAfterOneQuietPeriod() {
+        views.record(1L);
+        views.flush();
+        assertThat(views.size()).isEqualTo(1);
+
+        views.flush();
+        assertThat(views.size()).isEqualTo(1);
+
+        views.flush();
+        assertThat(views.size()).isZero();
+        assertThat(views.current(1L, db.get(1L))).isEqualTo(101L);
+
+        views.record(1L);
+        views.flush();
+
+        assertThat(writes).containsExactly(Map.of(1L, 1L), Map.of(1L, 1L));
+        assertThat(db.get(1L)).isEqualTo(102L);
+    }
+
+    @Test
+    void flushedCountersAreKeptUntilReplicasCatchUp() {
+        ViewCountBuffer retained = new ViewCountBuffer(null, transactionManager, event -> { }, 60_000) {
+            @Override
+            Map<Long, Long> writeDeltas(List<Long> ids, List<Long> deltas) {
+                return write(ids, deltas, false);
+            }
+        };
+        retained.record(1L);
+        retained.flush();
+
+        // 유휴 주기가 지나도 지우지 않는다 - 반영 전 값을 주는 복제본에서 읽어도 줄어들지 않음
+        retained.flush();
+        retained.flush();
+        retained.flush();
+        assertThat(retained.size()).isEqualTo(1);
+        assertThat(retained.current(1L, 100L)).isEqualTo(101L);
+    }
+
+    @Test
+    void concurrentRecordsAreNeitherLostNorDoubledWhileCountersAreRemoved() throws Exception {
+        int threads = 4;
+        int recordsPerThread = 50_000;
+        long[] ids = {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L};
+        for (long id : ids) {
+            db.put(id, 0L);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        Map<Long, Long> expected = new ConcurrentHashMap<>();
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                Map<Long, Long> mine = new HashMap<>();
+                for (int i = 0; i < recordsPerThread; i++) {
+                    // 드문드문 기록해야 카운터가 비어서 제거되는 경우가 생긴다
+                    long id = ids[ThreadLocalRandom.current().nextInt(ids.length)];
+                    views.record(id);
+                    mine.merge(id, 1L, Long::sum);
+                    if (i % 1000 == 0) {
+                        Thread.yield();
+                    }
+                }
+                mine.forEach((id, count) -> expected.merge(id, count, Long::sum));
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            views.flush();
+        }
+        pool.shutdown();
+        views.flush();
+
+        for (long id : ids) {
+            assertThat(db.get(id)).as("video %d", id).isEqualTo(expected.getOrDefault(id, 0L));
+            assertThat(views.current(id, db.get(id))).isEqualTo(db.get(id));
+        }
+    }
+
+    private Map<Long, Long> write(List<Long> ids, List<Long> deltas, boolean clampAtZero) {
+        if (dbDown.get()) {
+            throw new DataAccessResourceFailureException("db down");
+        }
+        Map<Long, Long> written = new HashMap<>();
+        Map<Long, Long> persisted = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            long delta = deltas.get(i);
+            written.put(ids.get(i), delta);
+            persisted.put(ids.get(i), db.merge(ids.get(i), delta,
+                    (before, d) -> clampAtZero ? Math.max(0L, before + d) : before + d));
+        }
+        synchronized (writes) {
+            writes.add(written);
+        }
+        return persisted;
+    }
+}
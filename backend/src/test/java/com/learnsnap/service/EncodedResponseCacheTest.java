@@ -0,0 +1,134 @@
+package com.learnsnap.service;
+
+import com.learnsnap.repository.CategoryRepository;
+import com.learnsnap.repository.UserRepository;
+import com.learnsnap.repository.VideoLikeRepository;
+import com.learnsnap.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 조회는 캐시된 바이트를 그대로 쓰고, 조회수가 DB에 반영된 뒤에만 다시 직렬화한다
+class EncodedResponseCacheTest {
+
+    private final AtomicInteger encodings = new AtomicInteger();
+    // DB 대신 - 반영된 조회수와 반영 시퀀스
+    private final AtomicLong persistedViews = new AtomicLong(100L);
+    private final AtomicLong flushSequence = new AtomicLong(1L);
+
+    private TrendingLeaderboard trendingLeaderboard;
+    private ContentVersionTracker tracker;
+    private ViewCountBuffer views;
+    private VideoService videoService;
+    private EncodedResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        trendingLeaderboard = mock(TrendingLeaderboard.class);
+        tracker = tracker();
+        views = new ViewCountBuffer(null, mock(PlatformTransactionManager.class), event -> { }, 0) {
+            @Override
+            Map<Long, Long> writeDeltas(List<Long> ids, List<Long> deltas) {
+                Map<Long, Long> persisted = new HashMap<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    persisted.put(ids.get(i), persistedViews.addAndGet(deltas.get(i)));
+                }
+                flushSequence.incrementAndGet();
+                return persisted;
+            }
+        };
+
+        VideoRepository videoRepository = mock(VideoRepository.class);
+        when(videoRepository.findViewsCountById(1L)).thenReturn(Optional.of(100L));
+        videoService = new VideoService(videoRepository, mock(CategoryRepository.class), mock(CategoryService.class),
+                mock(UserRepository.class), views, mock(LikeCountBuffer.class), mock(VideoLikeRepository.class),
+                mock(VideoLikeIndex.class), mock(VideoSearchIndex.class), trendingLeaderboard,
+                mock(RecentVideos.class), mock(ThumbnailService.class), event -> { });
+
+        cache = new EncodedResponseCache(JsonMapper.builder().build(), 10);
+    }
+
+    @Test
+    void viewHitsCachedVideoUntilCountersAreFlushed() {
+        EncodedResponseCache.Encoded first = video();
+
+        videoService.incrementViews(1L);
+        videoService.incrementViews(1L);
+
+        assertThat(video()).isSameAs(first);
+        assertThat(encodings).hasValue(1);
+
+        views.flush();
+
+        EncodedResponseCache.Encoded flushed = video();
+        assertThat(flushed.getVersion()).isNotEqualTo(first.getVersion());
+        assertThat(video()).isSameAs(flushed);
+        assertThat(encodings).hasValue(2);
+    }
+
+    @Test
+    void viewHitsCachedPopularList() {
+        EncodedResponseCache.Encoded first = popular();
+
+        videoService.incrementViews(1L);
+
+        assertThat(popular()).isSameAs(first);
+        assertThat(encodings).hasValue(1);
+    }
+
+    @Test
+    void tagsDependOnlyOnDatabaseState() {
+        String video = tracker.videoTag(1L);
+        String list = tracker.videoListTag();
+
+        // 다른 인스턴스(또는 재시작 후)도 같은 DB 값이면 같은 ETag
+        ContentVersionTracker other = tracker();
+        assertThat(other.videoTag(1L)).isEqualTo(video);
+        assertThat(other.videoListTag()).isEqualTo(list);
+
+        videoService.incrementViews(1L);
+        views.flush();
+
+        assertThat(other.videoTag(1L)).isNotEqualTo(video).isEqualTo(tracker.videoTag(1L));
+        assertThat(other.videoListTag()).isNotEqualTo(list).isEqualTo(tracker.videoListTag());
+    }
+
+    private ContentVersionTracker tracker() {
+        return new ContentVersionTracker(null, trendingLeaderboard, mock(ThumbnailService.class), 0) {
+            @Override
+            VideoStamp loadVideo(Long id) {
+                return new VideoStamp(1_000L, persistedViews.get(), 0L, 1_000L, 1_000L);
+            }
+
+            @Override
+            CatalogStamp loadCatalog() {
+                return new CatalogStamp(1L, 1_000L, 1L, 1_000L, 1_000L, flushSequence.get());
+            }
+        };
+    }
+
+    private EncodedResponseCache.Encoded video() {
+        return cache.video(1L, tracker.videoTag(1L), this::encode);
+    }
+
+    private EncodedResponseCache.Encoded popular() {
+        return cache.popular(null, 10, tracker.popularTag(null, 10), this::encode);
+    }
+
+    private Map<String, Long> encode() {
+        encodings.incrementAndGet();
+        return Map.of("viewsCount", 100L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.learnsnap.service;
+
+import com.learnsnap.domain.video.DifficultyLevel;
+import com.learnsnap.dto.UploadCompleteRequest;
+import com.learnsnap.dto.UploadInitRequest;
+import com.learnsnap.dto.UploadSessionResponse;
+import com.learnsnap.dto.VideoRequest;
+import com.learnsnap.dto.VideoResponse;
+import com.learnsnap.exception.InvalidUploadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 파트 업로드 - 이어 올리기, 체크섬 검증, 완료된 파트 재전송, 완료 처리, 만료 정리
+// 파트 크기는 최소값(1MB)으로 두고 파일은 두 파트 (1MB + 나머지)
+class UploadServiceTest {
+
+    private static final int PART_SIZE = 1024 * 1024;
+    private static final Long OWNER = 7L;
+
+    @TempDir
+    Path storageRoot;
+
+    private VideoService videoService;
+    private UploadService uploadService;
+    private byte[] file;
+
+    @BeforeEach
+    void setUp() {
+        videoService = mock(VideoService.class);
+        when(videoService.createVideo(any(), any())).thenReturn(VideoResponse.builder().id(42L).build());
+        uploadService = newUploadService();
+
+        file = new byte[PART_SIZE + 1000];
+        new Random(1).nextBytes(file);
+    }
+
+    @Test
+    void resumesFromDiskAfterRestart() throws IOException {
+        String uploadId = init();
+        uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(part(1)), OWNER);
+
+        // 재시작 - 메모리의 세션은 없고 manifest와 완료 표시만 남는다
+        UploadService restarted = newUploadService();
+        assertThat(restarted.getStatus(uploadId, OWNER).getUploadedParts()).containsExactly(1);
+
+        restarted.uploadPart(uploadId, 2, sha256(part(2)), stream(part(2)), OWNER);
+        restarted.completeUpload(uploadId, completeRequest(), "instructor@learnsnap.com", OWNER);
+
+        assertThat(Files.readAllBytes(storageRoot.resolve("videos/" + uploadId + ".mp4"))).isEqualTo(file);
+    }
+
+    @Test
+    void checksumMismatchLeavesPartMissing() {
+        String uploadId = init();
+
+        assertThatThrownBy(() -> uploadService.uploadPart(uploadId, 1, sha256(part(2)), stream(part(1)), OWNER))
+                .isInstanceOf(InvalidUploadException.class)
+                .hasMessageContaining("체크섬");
+        assertThatThrownBy(() -> uploadService.uploadPart(uploadId, 2, sha256(part(2)),
+                stream(Arrays.copyOf(part(2), 10)), OWNER))
+                .isInstanceOf(InvalidUploadException.class)
+                .hasMessageContaining("크기");
+
+        assertThat(uploadService.getStatus(uploadId, OWNER).getUploadedParts()).isEmpty();
+        assertThat(Files.exists(storageRoot.resolve("uploads/" + uploadId + "/parts/1.done"))).isFalse();
+    }
+
+    @Test
+    void failedRetryOfCompletedPartUnmarksIt() throws IOException {
+        String uploadId = init();
+        uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(part(1)), OWNER);
+        uploadService.uploadPart(uploadId, 2, sha256(part(2)), stream(part(2)), OWNER);
+
+        // 완료된 파트를 다른 내용으로 다시 올리다 실패 - 데이터 파일은 이미 일부 덮어써졌다
+        byte[] corrupt = new byte[PART_SIZE];
+        assertThatThrownBy(() -> uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(corrupt), OWNER))
+                .isInstanceOf(InvalidUploadException.class);
+
+        assertThat(uploadService.getStatus(uploadId, OWNER).getUploadedParts()).containsExactly(2);
+        assertThat(newUploadService().getStatus(uploadId, OWNER).getUploadedParts()).containsExactly(2);
+        assertThatThrownBy(() -> uploadService.completeUpload(uploadId, completeRequest(), "i@learnsnap.com", OWNER))
+                .isInstanceOf(InvalidUploadException.class)
+                .hasMessageContaining("1개");
+
+        uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(part(1)), OWNER);
+        uploadService.completeUpload(uploadId, completeRequest(), "i@learnsnap.com", OWNER);
+
+        assertThat(Files.readAllBytes(storageRoot.resolve("videos/" + uploadId + ".mp4"))).isEqualTo(file);
+    }
+
+    @Test
+    void completeIsRefusedWhileAPartIsBeingWritten() throws Exception {
+        String uploadId = init();
+        uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(part(1)), OWNER);
+
+        // 파트 2 본문이 절반쯤 도착한 상태에서 멈춘다
+        CountDownLatch halfway = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        byte[] second = part(2);
+        InputStream slow = new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public int read(byte[] buffer, int off, int len) {
+                if (position == second.length / 2) {
+                    halfway.countDown();
+                    awaitQuietly(resume);
+                }
+                if (position >= second.length) {
+                    return -1;
+                }
+                int end = position < second.length / 2 ? second.length / 2 : second.length;
+                int count = Math.min(len, end - position);
+                System.arraycopy(second, position, buffer, off, count);
+                position += count;
+                return count;
+            }
+        };
+        CompletableFuture<UploadSessionResponse> writing = CompletableFuture.supplyAsync(
+                () -> uploadService.uploadPart(uploadId, 2, sha256(second), slow, OWNER));
+        assertThat(halfway.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> uploadService.completeUpload(uploadId, completeRequest(), "i@learnsnap.com", OWNER))
+                .isInstanceOf(InvalidUploadException.class)
+                .hasMessageContaining("올리는 중");
+        assertThatThrownBy(() -> uploadService.uploadPart(uploadId, 2, sha256(second), stream(second), OWNER))
+                .isInstanceOf(InvalidUploadException.class)
+                .hasMessageContaining("올리는 중");
+        verify(videoService, never()).createVideo(any(), any());
+
+        resume.countDown();
+        assertThat(writing.get(10, TimeUnit.SECONDS).getUploadedParts()).containsExactly(1, 2);
+
+        uploadService.completeUpload(uploadId, completeRequest(), "i@learnsnap.com", OWNER);
+        assertThat(Files.readAllBytes(storageRoot.resolve("videos/" + uploadId + ".mp4"))).isEqualTo(file);
+    }
+
+    @Test
+    void completeMovesFileCreatesVideoAndRejectsLaterParts() {
+        String uploadId = init();
+        uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(part(1)), OWNER);
+        uploadService.uploadPart(uploadId, 2, sha256(part(2)), stream(part(2)), OWNER);
+
+        VideoResponse video = uploadService.completeUpload(uploadId, completeRequest(), "i@learnsnap.com", OWNER);
+
+        ArgumentCaptor<VideoRequest> request = ArgumentCaptor.forClass(VideoRequest.class);
+        verify(videoService).createVideo(request.capture(), eq("i@learnsnap.com"));
+        assertThat(video.getId()).isEqualTo(42L);
+        assertThat(request.getValue().getVideoUrl()).isEqualTo("videos/" + uploadId + ".mp4");
+        assertThat(Files.exists(storageRoot.resolve("uploads/" + uploadId))).isFalse();
+        assertThatThrownBy(() -> uploadService.uploadPart(uploadId, 1, sha256(part(1)), stream(part(1)), OWNER))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void cleanupKeepsYoungDirectoriesWithoutManifest() throws IOException {
+        // 디렉터리만 만들고 manifest는 아직 쓰지 않은 업로드
+        Path fresh = Files.createDirectories(storageRoot.resolve("uploads/fresh"));
+        Path stale = Files.createDirectories(storageRoot.resolve("uploads/stale"));
+        Files.setLastModifiedTime(stale, FileTime.from(Instant.now().minus(Duration.ofHours(25))));
+
+        uploadService.cleanupExpired();
+
+        assertThat(Files.exists(fresh)).isTrue();
+        assertThat(Files.exists(stale)).isFalse();
+    }
+
+    private UploadService newUploadService() {
+        return new UploadService(videoService, storageRoot.toString(), PART_SIZE, 1024L * 1024 * 1024, 24);
+    }
+
+    private String init() {
+        return uploadService.initUpload(UploadInitRequest.builder()
+                .fileName("lecture.mp4")
+                .fileSize((long) file.length)
+                .partSize(PART_SIZE)
+                .build(), OWNER).getUploadId();
+    }
+
+    private byte[] part(int partNumber) {
+        int from = (partNumber - 1) * PART_SIZE;
+        return Arrays.copyOfRange(file, from, Math.min(from + PART_SIZE, file.length));
+    }
+
+    private static UploadCompleteRequest completeRequest() {
+        return UploadCompleteRequest.builder()
+                .title("스프링 부트 입문")
+                .duration(300)
+                .difficultyLevel(DifficultyLevel.BEGINNER)
+                .categoryId(1L)
+                .build();
+    }
+
+    private static InputStream stream(byte[] bytes) {
+        return new ByteArrayInputStream(bytes);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.learnsnap.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 토큰화/순위 - DB 없이 index()로 채운다
+class VideoSearchIndexTest {
+
+    private VideoSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new VideoSearchIndex(null, 1000, 100);
+    }
+
+    @Test
+    void matchesKoreanSubstringsAcrossPunctuationAndCase() {
+        index.index(1L, "스프링 부트 입문", "JPA, Hibernate!");
+        index.index(2L, "자바 기초", "람다/스트림");
+
+        assertThat(ids("부트")).containsExactly(1L);
+        assertThat(ids("프링부")).isEmpty();
+        assertThat(ids("hibernate")).containsExactly(1L);
+        assertThat(ids("ＪＰＡ")).containsExactly(1L);
+        assertThat(ids("  람다 -- 스트림 ")).containsExactly(2L);
+        assertThat(ids("!!!")).isEmpty();
+    }
+
+    @Test
+    void titleMatchOutranksDescriptionMatch() {
+        index.index(1L, "요리 입문", "스프링 설정을 곁들인");
+        index.index(2L, "스프링 입문", "기초 강의");
+
+        assertThat(ids("스프링")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void allQueryGramsInTitleEarnCoverageBonus() {
+        // 1번은 제목과 설명에 나눠서, 2번은 제목에 모두 포함
+        index.index(1L, "스프링", "부트");
+        index.index(2L, "스프링 부트", "");
+
+        List<VideoSearchIndex.SearchHit> hits = index.search("스프링 부트");
+
+        assertThat(hits).extracting(VideoSearchIndex.SearchHit::getVideoId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore() + 10);
+    }
+
+    @Test
+    void equalScoresAreOrderedByNewestId() {
+        index.index(3L, "자바 입문", "");
+        index.index(7L, "자바 입문", "");
+        index.index(5L, "자바 입문", "");
+
+        assertThat(ids("자바")).containsExactly(7L, 5L, 3L);
+    }
+
+    @Test
+    void singleCharacterQueryMatchesTitleSubstringButOnlyWholeDescriptionTokens() {
+        index.index(1L, "자바 입문", "");
+        index.index(2L, "입문", "자바 강의");
+        index.index(3L, "입문", "C 언어와 자 사용법");
+
+        // 제목은 unigram까지 색인, 설명은 한 글자 토큰만 unigram 색인
+        assertThat(ids("자")).containsExactly(1L, 3L);
+        assertThat(ids("c")).containsExactly(3L);
+    }
+
+    @Test
+    void updateAndRemoveReplacePostings() {
+        index.index(1L, "스프링 입문", "");
+        index.index(2L, "자바 입문", "");
+        assertThat(index.size()).isEqualTo(2);
+
+        index.index(1L, "코틀린 입문", "");
+        assertThat(ids("스프링")).isEmpty();
+        assertThat(ids("코틀린")).containsExactly(1L);
+
+        index.remove(2L);
+        index.remove(99L);
+        assertThat(ids("입문")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedRankingIsReusedUntilIndexChanges() {
+        index.index(1L, "스프링 입문", "");
+
+        List<VideoSearchIndex.SearchHit> first = index.search("스프링");
+        assertThat(index.search(" 스프링 ")).isSameAs(first);
+
+        index.index(2L, "스프링 심화", "");
+        assertThat(ids("스프링")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void resultsAreCappedAtMaxResults() {
+        index = new VideoSearchIndex(null, 3, 100);
+        for (long id = 1; id <= 10; id++) {
+            index.index(id, "자바 강의 " + id, id % 2 == 0 ? "" : "자바");
+        }
+
+        // 설명에도 포함된 홀수 id가 점수가 높고, 그중 최신 id 순
+        assertThat(ids("자바")).containsExactly(9L, 7L, 5L);
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query).stream().map(VideoSearchIndex.SearchHit::getVideoId).toList();
+    }
+}
\ No newline at end of file